@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.config.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import io.smallrye.config.PropertiesConfigSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Reads a large properties file with {@link PropertiesConfigSource} and with {@link Properties#load(InputStream)}
+ * followed by the copy into a {@link HashMap} that {@code PropertiesConfigSource} used to do.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PropertiesParserBenchmark {
+
+    @Param({ "10000", "100000" })
+    int keys;
+
+    private Path file;
+    private URL url;
+
+    @Setup
+    public void setup() throws IOException {
+        file = Files.createTempFile("smallrye-config", ".properties");
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.ISO_8859_1)) {
+            writer.write("# generated by " + getClass().getSimpleName() + "\n");
+            for (int i = 0; i < keys; i++) {
+                writer.write("service" + (i % 100) + ".endpoint" + i + ".url = http://host" + i + ".example.com:8080/path\n");
+                if (i % 10 == 0) {
+                    writer.write("service" + (i % 100) + ".endpoint" + i + ".description = a value on \\\n    two lines\n");
+                }
+            }
+        }
+        url = file.toUri().toURL();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.delete(file);
+    }
+
+    @Benchmark
+    public Map<String, String> propertiesConfigSource() throws IOException {
+        return new PropertiesConfigSource(url).getProperties();
+    }
+
+    @Benchmark
+    public Map<String, String> propertiesLoad() throws IOException {
+        Properties properties = new Properties();
+        try (InputStream in = url.openStream()) {
+            properties.load(in);
+        }
+        return new HashMap<>((Map) properties);
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.config.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Priority;
+
+import io.smallrye.config.SmallRyeConfigBuilder;
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.spi.Converter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Builds configs again and again in the same JVM, like a test suite or a server with many deployments.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RepeatedBuildBenchmark {
+
+    private final Converter<?>[] converters = { new FirstConverter(), new SecondConverter() };
+
+    @Benchmark
+    public Config build() {
+        return new SmallRyeConfigBuilder()
+                .withConverters(converters)
+                .addDiscoveredConverters()
+                .build();
+    }
+
+    public static class Value {
+        final String value;
+
+        Value(String value) {
+            this.value = value;
+        }
+    }
+
+    public static class FirstValue extends Value {
+        FirstValue(String value) {
+            super(value);
+        }
+    }
+
+    public static class SecondValue extends Value {
+        SecondValue(String value) {
+            super(value);
+        }
+    }
+
+    @Priority(200)
+    public static class FirstConverter implements Converter<FirstValue> {
+        @Override
+        public FirstValue convert(String value) {
+            return new FirstValue(value);
+        }
+    }
+
+    // the type of the converter is found on its superclass
+    public abstract static class AbstractSecondConverter implements Converter<SecondValue> {
+    }
+
+    public static class SecondConverter extends AbstractSecondConverter {
+        @Override
+        public SecondValue convert(String value) {
+            return new SecondValue(value);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.config.benchmarks;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import io.smallrye.config.SmallRyeConfigBuilder;
+import org.eclipse.microprofile.config.Config;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Builds a config from a class path with many {@code META-INF/microprofile-config.properties} files,
+ * loading them one after another or with {@link SmallRyeConfigBuilder#withParallelSourceLoading(int)}, eagerly
+ * or with {@link SmallRyeConfigBuilder#withLazySourceLoading()}, and from a
+ * {@link SmallRyeConfigBuilder#withSnapshotFile(java.nio.file.Path) snapshot file} written by the first build.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SourceLoadingBenchmark {
+
+    @Param({ "10", "100" })
+    int files;
+
+    @Param({ "1", "4" })
+    int parallelism;
+
+    @Param({ "false", "true" })
+    boolean lazy;
+
+    @Param({ "false", "true" })
+    boolean snapshot;
+
+    private Path root;
+    private URLClassLoader classLoader;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        root = Files.createTempDirectory("smallrye-config-benchmark");
+        URL[] urls = new URL[files];
+        for (int i = 0; i < files; i++) {
+            File metaInf = root.resolve("file" + i).resolve("META-INF").toFile();
+            metaInf.mkdirs();
+            Properties properties = new Properties();
+            for (int j = 0; j < 200; j++) {
+                properties.setProperty("file" + i + ".key" + j, "value" + j);
+            }
+            try (OutputStream out = new FileOutputStream(new File(metaInf, "microprofile-config.properties"))) {
+                properties.store(out, null);
+            }
+            urls[i] = root.resolve("file" + i).toUri().toURL();
+        }
+        classLoader = new URLClassLoader(urls, null);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        classLoader.close();
+        try (Stream<Path> paths = Files.walk(root)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    @Benchmark
+    public Config build() {
+        SmallRyeConfigBuilder builder = new SmallRyeConfigBuilder().withParallelSourceLoading(parallelism);
+        if (lazy) {
+            builder.withLazySourceLoading();
+        }
+        if (snapshot) {
+            builder.withSnapshotFile(root.resolve("snapshot.bin"));
+        }
+        return builder
+                .forClassLoader(classLoader)
+                .addDefaultSources()
+                .build();
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.smallrye.config.benchmarks;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+import io.smallrye.config.StringUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares {@link StringUtil#split(String)} and {@link StringUtil#segments(CharSequence)} with the
+ * regular expression they replace.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SplitBenchmark {
+
+    @Param({ "single", "a,b,c", "large:cheese\\,mushroom,medium:chicken,small:pepperoni", "1,2,3,4,5,6,7,8,9,10,11,12,13,14,15,16" })
+    String text;
+
+    @Benchmark
+    public String[] regex() {
+        String[] split = text.split("(?<!\\\\),");
+        for (int i = 0; i < split.length; i++) {
+            split[i] = split[i].replace("\\,", ",");
+        }
+        return split;
+    }
+
+    @Benchmark
+    public String[] split() {
+        return StringUtil.split(text);
+    }
+
+    @Benchmark
+    public void segments(Blackhole blackhole) {
+        for (Iterator<String> segments = StringUtil.segments(text); segments.hasNext(); ) {
+            blackhole.consume(segments.next());
+        }
+    }
+}
@@ -1,14 +1,18 @@
 package io.smallrye.configsource;
 
+import io.smallrye.config.BulkConfigSource;
 import org.apache.curator.framework.CuratorFramework;
 import org.apache.curator.framework.CuratorFrameworkFactory;
 import org.apache.curator.retry.ExponentialBackoffRetry;
+import org.apache.zookeeper.KeeperException;
 import org.apache.zookeeper.data.Stat;
 import org.eclipse.microprofile.config.Config;
 import org.eclipse.microprofile.config.ConfigProvider;
-import org.eclipse.microprofile.config.spi.ConfigSource;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -21,7 +25,7 @@ import java.util.logging.Logger;
  * <p>
  * author: Simon Woodman swoodman@redhat.com
  */
-public class ZooKeeperConfigSource implements ConfigSource {
+public class ZooKeeperConfigSource implements BulkConfigSource {
 
     private static final Logger logger = Logger.getLogger(ZooKeeperConfigSource.class.getName());
 
@@ -43,6 +47,9 @@ public class ZooKeeperConfigSource implements ConfigSource {
     //Name of this ConfigSource
     private static final String ZOOKEEPER_CONFIG_SOURCE_NAME = "io.smallrye.configsource.zookeeper";
 
+    //Maximum time to wait for the pipelined reads of getValues()
+    private static final long BULK_READ_TIMEOUT_SECONDS = 15;
+
     public ZooKeeperConfigSource() {
     }
 
@@ -74,8 +81,10 @@ public class ZooKeeperConfigSource implements ConfigSource {
         try {
             final List<String> children = getCuratorClient().getChildren().forPath(applicationId);
             for (final String key : children) {
-                final String value = new String(getCuratorClient().getData().forPath(applicationId + "/" + key));
-                props.put(key, value);
+                final String value = decode(getCuratorClient().getData().forPath(applicationId + "/" + key));
+                if (value != null) {
+                    props.put(key, value);
+                }
             }
         } catch (Exception e) {
             logger.log(Level.WARNING, e.getMessage(), e);
@@ -98,7 +107,7 @@ public class ZooKeeperConfigSource implements ConfigSource {
             final Stat stat = getCuratorClient().checkExists().forPath(applicationId + "/" + key);
 
             if (stat != null) {
-                return new String(getCuratorClient().getData().forPath(applicationId + "/" + key));
+                return decode(getCuratorClient().getData().forPath(applicationId + "/" + key));
             } else {
                 return null;
             }
@@ -108,6 +117,74 @@ public class ZooKeeperConfigSource implements ConfigSource {
         return null;
     }
 
+    /**
+     * Reads the properties with pipelined requests: all the reads are sent in the background
+     * and their results are awaited at once.
+     * <p>
+     * The properties whose read fails or does not complete in time are read again one by one with {@link #getValue(String)},
+     * so that a property is never reported as missing because it could not be read in bulk.
+     */
+    @Override
+    public Map<String, String> getValues(final Collection<String> keys) {
+
+        final Map<String, String> values = new ConcurrentHashMap<>();
+        //Keys whose value, or absence, is known
+        final Set<String> resolvedKeys = ConcurrentHashMap.newKeySet();
+        final List<String> readKeys = new ArrayList<>(keys.size());
+        for (final String key : keys) {
+            //Same as getValue(), the keys used to configure the Zookeeper connection are ignored
+            if (!key.startsWith(IGNORED_PREFIX)) {
+                readKeys.add(key);
+            }
+        }
+
+        try {
+            final CuratorFramework client = getCuratorClient();
+            final CountDownLatch latch = new CountDownLatch(readKeys.size());
+            for (final String key : readKeys) {
+                client.getData().inBackground((curator, event) -> {
+                    try {
+                        if (event.getResultCode() == KeeperException.Code.OK.intValue()) {
+                            final String value = decode(event.getData());
+                            if (value != null) {
+                                values.put(key, value);
+                            }
+                            resolvedKeys.add(key);
+                        } else if (event.getResultCode() == KeeperException.Code.NONODE.intValue()) {
+                            resolvedKeys.add(key);
+                        } else {
+                            logger.log(Level.WARNING, "Unable to read " + event.getPath() + ": " + KeeperException.Code.get(event.getResultCode()));
+                        }
+                    } finally {
+                        latch.countDown();
+                    }
+                }).forPath(applicationId + "/" + key);
+            }
+            if (!latch.await(BULK_READ_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.log(Level.WARNING, "Timed out while reading " + readKeys.size() + " properties from Zookeeper");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            logger.log(Level.WARNING, e.getMessage(), e);
+        }
+
+        final Map<String, String> result = new HashMap<>(values);
+        for (final String key : readKeys) {
+            if (!resolvedKeys.contains(key)) {
+                final String value = getValue(key);
+                if (value != null) {
+                    result.put(key, value);
+                }
+            }
+        }
+        return result;
+    }
+
+    //A node without data has no value
+    private static String decode(final byte[] data) {
+        return data == null ? null : new String(data);
+    }
 
     @Override
     public String getName() {
@@ -25,12 +25,16 @@ import org.junit.runner.RunWith;
 
 import javax.inject.Inject;
 import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.logging.Logger;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.assertj.core.api.Fail.fail;
 
 /**
@@ -129,6 +133,23 @@ public class ZooKeeperConfigSourceTest {
         assertThat(propertyNames).contains(PROPERTY_NAME);
     }
 
+    @Test
+    public void testGettingValues() {
+
+        logger.info("ZooKeeperConfigSourceTest.testGettingValues");
+
+        //setup a property and a node without data in ZK
+        try {
+            curatorClient.create().creatingParentContainersIfNeeded().forPath("/" + APPLICATION_ID + "/bulk.property", "bulk.value".getBytes(StandardCharsets.UTF_8));
+            curatorClient.create().creatingParentContainersIfNeeded().forPath("/" + APPLICATION_ID + "/bulk.empty.property", null);
+        } catch (Exception e) {
+            fail("Cannot set properties directly in Zookeeper");
+        }
+
+        Map<String, String> values = new ZooKeeperConfigSource().getValues(Arrays.asList("bulk.property", "bulk.empty.property", "bulk.missing.property"));
+        assertThat(values).containsOnly(entry("bulk.property", "bulk.value"));
+    }
+
     @Test
     public void testInjection() {
         assertThat(injectedProperty).isEqualTo("injected.property.value");
@@ -0,0 +1,201 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.config;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * Time spent and memory allocated by each phase of {@link SmallRyeConfigBuilder#build()} and by the loading of each
+ * config source, recorded when the builder is created {@link SmallRyeConfigBuilder#withBuildReport() with a build report}.
+ *
+ * The config sources are loaded in the {@code loadSources} phase, except the {@code ConfigSource} services that are
+ * instantiated in the {@code discoverSources} phase: the {@code findDefaultSources} phase only looks up the
+ * {@code microprofile-config.properties} files and the {@code discoverSources} phase the {@code ConfigSourceProvider}
+ * services, whose config sources are loaded later. The loading of each config source is recorded in the phase
+ * that runs it.
+ *
+ * The allocations are counted per thread and are {@code -1} if the JVM does not count them: the allocations of a phase
+ * are the ones of the thread that builds the config while the allocations of a config source are the ones of the
+ * thread that loads it, which differs with {@link SmallRyeConfigBuilder#withParallelSourceLoading(int) parallel loading}.
+ */
+public class BuildReport {
+
+    private final List<Entry> phases;
+    private final List<Entry> sources;
+    private final Entry total;
+
+    private BuildReport(List<Entry> phases, List<Entry> sources, Entry total) {
+        this.phases = Collections.unmodifiableList(phases);
+        this.sources = Collections.unmodifiableList(sources);
+        this.total = total;
+    }
+
+    /**
+     * @return the phases of the build, in the order they are run
+     */
+    public List<Entry> getPhases() {
+        return phases;
+    }
+
+    /**
+     * @return the loading of the config sources, one entry per {@code microprofile-config.properties} file,
+     * per {@code ConfigSourceProvider} and for the {@code ConfigSource} services
+     */
+    public List<Entry> getSources() {
+        return sources;
+    }
+
+    /**
+     * @return the whole build
+     */
+    public Entry getTotal() {
+        return total;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("SmallRyeConfig build report\n");
+        for (Entry phase : phases) {
+            sb.append("  phase  ").append(phase).append('\n');
+        }
+        for (Entry source : sources) {
+            sb.append("  source ").append(source).append('\n');
+        }
+        sb.append("  total  ").append(total);
+        return sb.toString();
+    }
+
+    public static class Entry {
+        private final String name;
+        private final long nanos;
+        private final long allocatedBytes;
+
+        Entry(String name, long nanos, long allocatedBytes) {
+            this.name = name;
+            this.nanos = nanos;
+            this.allocatedBytes = allocatedBytes;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return the elapsed time, in nanoseconds
+         */
+        public long getNanos() {
+            return nanos;
+        }
+
+        /**
+         * @return the allocated memory, in bytes, or {@code -1} if it is not counted
+         */
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%10.3f ms %12d bytes  %s", nanos / 1_000_000.0, allocatedBytes, name);
+        }
+    }
+
+    /**
+     * Records the phases of a build, in the thread that builds the config, and the loading of the config sources,
+     * in any thread.
+     */
+    static class Recorder {
+        private final List<Entry> phases = new ArrayList<>();
+        private final List<Entry> sources = new ArrayList<>();
+        private final long start;
+        private final long startAllocatedBytes;
+        private long phaseStart;
+        private long phaseAllocatedBytes;
+
+        Recorder() {
+            start = phaseStart = System.nanoTime();
+            startAllocatedBytes = phaseAllocatedBytes = allocatedBytes();
+        }
+
+        /**
+         * Ends the current phase, that started at the end of the previous one.
+         */
+        void endPhase(String name) {
+            long now = System.nanoTime();
+            long allocated = allocatedBytes();
+            phases.add(new Entry(name, now - phaseStart, difference(allocated, phaseAllocatedBytes)));
+            phaseStart = now;
+            phaseAllocatedBytes = allocated;
+        }
+
+        <T> T recordSource(String name, Callable<T> loader) throws Exception {
+            long sourceStart = System.nanoTime();
+            long sourceAllocatedBytes = allocatedBytes();
+            try {
+                return loader.call();
+            } finally {
+                Entry entry = new Entry(name, System.nanoTime() - sourceStart, difference(allocatedBytes(), sourceAllocatedBytes));
+                synchronized (sources) {
+                    sources.add(entry);
+                }
+            }
+        }
+
+        BuildReport report() {
+            Entry total = new Entry("build", System.nanoTime() - start, difference(allocatedBytes(), startAllocatedBytes));
+            synchronized (sources) {
+                return new BuildReport(new ArrayList<>(phases), new ArrayList<>(sources), total);
+            }
+        }
+
+        private static long difference(long allocated, long previous) {
+            return allocated < 0 || previous < 0 ? -1 : allocated - previous;
+        }
+    }
+
+    private static long allocatedBytes() {
+        try {
+            return Allocations.currentThread();
+        } catch (LinkageError e) {
+            // com.sun.management is not available
+            return -1;
+        }
+    }
+
+    private static class Allocations {
+        private static final com.sun.management.ThreadMXBean THREADS = find();
+
+        private static com.sun.management.ThreadMXBean find() {
+            java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+            if (threads instanceof com.sun.management.ThreadMXBean) {
+                com.sun.management.ThreadMXBean hotspotThreads = (com.sun.management.ThreadMXBean) threads;
+                if (hotspotThreads.isThreadAllocatedMemorySupported() && hotspotThreads.isThreadAllocatedMemoryEnabled()) {
+                    return hotspotThreads;
+                }
+            }
+            return null;
+        }
+
+        static long currentThread() {
+            return THREADS == null ? -1 : THREADS.getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+    }
+}
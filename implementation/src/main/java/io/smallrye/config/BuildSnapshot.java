@@ -0,0 +1,319 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.config;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.jboss.logging.Logger;
+
+/**
+ * Binary snapshot of the work of {@link SmallRyeConfigBuilder#build()} that only depends on the class path:
+ * the properties of the {@code microprofile-config.properties} files and the names of the implementations of the
+ * discovered services.
+ *
+ * The snapshot is only valid for a fingerprint of the resources it was built from (the URL, last modification time
+ * and size of every properties file, service file and {@link ServiceIndex}) and for the same builder options.
+ * It is read with a single memory-mapped read of its file.
+ */
+class BuildSnapshot {
+
+    private static final Logger LOG = Logger.getLogger("io.smallrye.config");
+
+    private static final int MAGIC = 0x53524346;
+    private static final int VERSION = 2;
+
+    static final int DEFAULT_SOURCES = 1;
+    static final int DISCOVERED_SOURCES = 2;
+    static final int DISCOVERED_CONVERTERS = 4;
+
+    // resources read by the builder, the snapshot is valid as long as they do not change
+    private static final List<String> RESOURCES = new ArrayList<>();
+
+    static {
+        RESOURCES.add(SmallRyeConfigBuilder.META_INF_MICROPROFILE_CONFIG_PROPERTIES);
+        RESOURCES.add(SmallRyeConfigBuilder.WEB_INF_MICROPROFILE_CONFIG_PROPERTIES);
+        for (Class<?> service : ServiceIndex.SERVICES) {
+            RESOURCES.add("META-INF/services/" + service.getName());
+        }
+        RESOURCES.add(ServiceIndex.RESOURCE);
+    }
+
+    private final int options;
+    private final List<String> fingerprint;
+    private final List<PropertiesSource> propertiesSources = new ArrayList<>();
+    private final Map<String, List<String>> services = new LinkedHashMap<>();
+
+    BuildSnapshot(int options, List<String> fingerprint) {
+        this.options = options;
+        this.fingerprint = fingerprint;
+    }
+
+    /**
+     * Returns the fingerprint of the resources, visible from the class loader, that the snapshot depends on.
+     */
+    static List<String> fingerprint(ClassLoader classLoader) throws IOException {
+        List<String> fingerprint = new ArrayList<>();
+        for (String resource : RESOURCES) {
+            Enumeration<URL> urls = classLoader.getResources(resource);
+            while (urls.hasMoreElements()) {
+                fingerprint.add(fingerprint(urls.nextElement()));
+            }
+        }
+        return fingerprint;
+    }
+
+    private static String fingerprint(URL url) throws IOException {
+        long lastModified;
+        long length;
+        URL fileUrl = url;
+        if ("jar".equals(url.getProtocol())) {
+            // the entries of a jar change with the jar, opening the connection does not open the jar
+            URLConnection connection = url.openConnection();
+            if (connection instanceof JarURLConnection) {
+                fileUrl = ((JarURLConnection) connection).getJarFileURL();
+            }
+        }
+        if ("file".equals(fileUrl.getProtocol())) {
+            File file;
+            try {
+                file = new File(fileUrl.toURI());
+            } catch (URISyntaxException | IllegalArgumentException e) {
+                file = new File(fileUrl.getPath());
+            }
+            lastModified = file.lastModified();
+            length = file.length();
+        } else {
+            URLConnection connection = fileUrl.openConnection();
+            lastModified = connection.getLastModified();
+            length = connection.getContentLengthLong();
+        }
+        return url + " " + lastModified + " " + length;
+    }
+
+    /**
+     * Reserves the position of a properties file in the snapshot, the config sources of the files can then be
+     * set concurrently.
+     */
+    int reservePropertiesSource() {
+        propertiesSources.add(null);
+        return propertiesSources.size() - 1;
+    }
+
+    void setPropertiesSource(int position, URL url, ConfigSource configSource) {
+        propertiesSources.set(position, new PropertiesSource(url.toString(), configSource.getOrdinal(), configSource.getProperties()));
+    }
+
+    void putServices(Class<?> service, List<?> implementations) {
+        List<String> names = new ArrayList<>();
+        for (Object implementation : implementations) {
+            names.add(implementation.getClass().getName());
+        }
+        services.put(service.getName(), names);
+    }
+
+    /**
+     * @param compactSize the minimum number of properties of the sources stored in {@link CompactProperties}
+     * @return the config sources of the {@code microprofile-config.properties} files
+     */
+    List<ConfigSource> getPropertiesSources(int compactSize) {
+        List<ConfigSource> configSources = new ArrayList<>();
+        for (PropertiesSource propertiesSource : propertiesSources) {
+            configSources.add(new PropertiesConfigSource(propertiesSource.source, propertiesSource.ordinal,
+                    CompactProperties.compact(propertiesSource.properties, compactSize)));
+        }
+        return configSources;
+    }
+
+    /**
+     * Instantiates the implementations of the service.
+     *
+     * @return the implementations of the service or {@code null} if the snapshot does not list the service
+     */
+    <S> List<S> loadServices(Class<S> service, ClassLoader classLoader) {
+        List<String> names = services.get(service.getName());
+        if (names == null) {
+            return null;
+        }
+        List<S> implementations = new ArrayList<>();
+        for (String name : names) {
+            implementations.add(ServiceIndex.newInstance(service, name, classLoader));
+        }
+        return implementations;
+    }
+
+    /**
+     * Reads the snapshot file.
+     *
+     * @return the snapshot or {@code null} if the file does not exist, can not be read or was built with other options
+     * or from other resources
+     */
+    static BuildSnapshot read(Path file, int options, List<String> fingerprint) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION || buffer.getInt() != options) {
+                return null;
+            }
+            int count = buffer.getInt();
+            if (count != fingerprint.size()) {
+                return null;
+            }
+            for (int i = 0; i < count; i++) {
+                if (!fingerprint.get(i).equals(readString(buffer))) {
+                    return null;
+                }
+            }
+            BuildSnapshot snapshot = new BuildSnapshot(options, fingerprint);
+            count = buffer.getInt();
+            for (int i = 0; i < count; i++) {
+                String source = readString(buffer);
+                int ordinal = buffer.getInt();
+                int size = buffer.getInt();
+                // sized to not be rehashed
+                Map<String, String> properties = new HashMap<>(size * 4 / 3 + 1);
+                for (int j = 0; j < size; j++) {
+                    properties.put(readString(buffer), readString(buffer));
+                }
+                snapshot.propertiesSources.add(new PropertiesSource(source, ordinal, properties));
+            }
+            count = buffer.getInt();
+            for (int i = 0; i < count; i++) {
+                String service = readString(buffer);
+                int size = buffer.getInt();
+                List<String> names = new ArrayList<>(size);
+                for (int j = 0; j < size; j++) {
+                    names.add(readString(buffer));
+                }
+                snapshot.services.put(service, names);
+            }
+            return snapshot;
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException | RuntimeException e) {
+            // a truncated or corrupted file is built again
+            LOG.debugf(e, "Ignoring config snapshot %s", file);
+            return null;
+        }
+    }
+
+    /**
+     * Writes the snapshot to a temporary file that replaces the file, so that a concurrent reader
+     * never sees a partial snapshot. A snapshot that can not be written is logged and ignored.
+     */
+    void write(Path file) {
+        try {
+            doWrite(file);
+        } catch (IOException e) {
+            LOG.warnf(e, "Unable to write config snapshot %s", file);
+        }
+    }
+
+    private void doWrite(Path file) throws IOException {
+        Path dir = file.toAbsolutePath().getParent();
+        Files.createDirectories(dir);
+        Path tmp = Files.createTempFile(dir, file.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream fileOut = Files.newOutputStream(tmp);
+                 DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fileOut))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeInt(options);
+                out.writeInt(fingerprint.size());
+                for (String resource : fingerprint) {
+                    writeString(out, resource);
+                }
+                out.writeInt(propertiesSources.size());
+                for (PropertiesSource propertiesSource : propertiesSources) {
+                    writeString(out, propertiesSource.source);
+                    out.writeInt(propertiesSource.ordinal);
+                    out.writeInt(propertiesSource.properties.size());
+                    for (Map.Entry<String, String> property : propertiesSource.properties.entrySet()) {
+                        writeString(out, property.getKey());
+                        writeString(out, property.getValue());
+                    }
+                }
+                out.writeInt(services.size());
+                for (Map.Entry<String, List<String>> service : services.entrySet()) {
+                    writeString(out, service.getKey());
+                    out.writeInt(service.getValue().size());
+                    for (String name : service.getValue()) {
+                        writeString(out, name);
+                    }
+                }
+            }
+            try {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    // strings are written as their length and their UTF-16 chars so that any string, including one with unpaired
+    // surrogates, is read back unchanged; DataOutput#writeUTF is limited to 64KB
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        out.writeInt(value.length());
+        out.writeChars(value);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining() / 2) {
+            throw new IllegalStateException("Invalid string length " + length);
+        }
+        char[] chars = new char[length];
+        buffer.asCharBuffer().get(chars);
+        buffer.position(buffer.position() + length * 2);
+        return new String(chars);
+    }
+
+    private static class PropertiesSource {
+        private final String source;
+        private final int ordinal;
+        private final Map<String, String> properties;
+
+        private PropertiesSource(String source, int ordinal, Map<String, String> properties) {
+            this.source = source;
+            this.ordinal = ordinal;
+            this.properties = properties;
+        }
+    }
+}
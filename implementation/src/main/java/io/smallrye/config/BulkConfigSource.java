@@ -0,0 +1,41 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.config;
+
+import java.util.Collection;
+import java.util.Map;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+
+/**
+ * A config source that can read the values of several properties at once.
+ *
+ * {@link SmallRyeConfig#getValues(Collection, Class)} reads the properties of such a source with a single call
+ * instead of calling {@link #getValue(String)} for each property, so that remote sources can batch or
+ * pipeline their reads.
+ */
+public interface BulkConfigSource extends ConfigSource {
+
+    /**
+     * Returns the values of the properties defined by this config source.
+     *
+     * @param propertyNames the names of the properties
+     * @return the values of the properties keyed by their name, the properties that are not defined
+     * by this source are not in the map
+     */
+    Map<String, String> getValues(Collection<String> propertyNames);
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.smallrye.config;
+
+import org.eclipse.microprofile.config.spi.Converter;
+
+/**
+ * Converter that can read its value from a region of a {@link CharSequence}.
+ *
+ * The elements of list and array values are passed to such a converter as regions of the whole value,
+ * without creating a string for each of them. Elements with escaped commas are still passed as strings.
+ */
+@FunctionalInterface
+public interface CharSequenceConverter<T> extends Converter<T> {
+
+    /**
+     * Converts a region of the value.
+     *
+     * @param value the characters to read, never {@code null}
+     * @param offset the index of the first character of the region
+     * @param length the number of characters of the region
+     * @return the converted value
+     * @throws IllegalArgumentException if the region can not be converted
+     */
+    T convert(CharSequence value, int offset, int length);
+
+    @Override
+    default T convert(String value) {
+        return value != null ? convert(value, 0, value.length()) : null;
+    }
+}
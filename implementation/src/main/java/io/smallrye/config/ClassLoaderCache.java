@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.config;
+
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Lookups of {@link SmallRyeConfigBuilder} that give the same result for every config built for a class loader.
+ *
+ * The caches are held weakly by their class loader and do not reference it: the {@link ServiceIndex} only holds
+ * class names and the {@link ConfigFactory} class is held weakly, it can not be unloaded before the class loader
+ * that found it.
+ */
+class ClassLoaderCache {
+
+    private static final Map<ClassLoader, ClassLoaderCache> CACHES = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private volatile boolean serviceIndexLookedUp = false;
+    private volatile ServiceIndex serviceIndex;
+    private volatile boolean configFactoryLookedUp = false;
+    // null if there is no ConfigFactory service
+    private volatile WeakReference<Class<?>> configFactoryClass;
+
+    static ClassLoaderCache of(ClassLoader classLoader) {
+        return CACHES.computeIfAbsent(classLoader, key -> new ClassLoaderCache());
+    }
+
+    /**
+     * @return the service index of the class loader or {@code null} if it has none
+     */
+    ServiceIndex getServiceIndex(ClassLoader classLoader) {
+        if (!serviceIndexLookedUp) {
+            serviceIndex = ServiceIndex.find(classLoader);
+            serviceIndexLookedUp = true;
+        }
+        return serviceIndex;
+    }
+
+    /**
+     * Instantiates the {@link ConfigFactory} service, the lookup is only done for the first config.
+     *
+     * @param lookup finds the first {@link ConfigFactory} service
+     * @return a new instance of the {@link ConfigFactory} service or {@code null} if there is none
+     */
+    ConfigFactory newConfigFactory(Supplier<ConfigFactory> lookup) {
+        if (configFactoryLookedUp) {
+            WeakReference<Class<?>> reference = configFactoryClass;
+            if (reference == null) {
+                return null;
+            }
+            Class<?> factoryClass = reference.get();
+            if (factoryClass != null) {
+                return ServiceIndex.newInstance(ConfigFactory.class, factoryClass);
+            }
+        }
+        ConfigFactory factory = lookup.get();
+        configFactoryClass = factory == null ? null : new WeakReference<>(factory.getClass());
+        configFactoryLookedUp = true;
+        return factory;
+    }
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.config;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Immutable map of properties stored in a few arrays instead of a node and two strings per property.
+ *
+ * The characters of all the keys and values are packed in a single array, of bytes if they are all ISO 8859-1
+ * characters and of chars otherwise. The properties are found with an open-addressing table of entry indexes,
+ * probed linearly. The strings of the keys and values are created when they are read, the map is a view
+ * over the arrays.
+ */
+final class CompactProperties extends AbstractMap<String, String> implements Serializable {
+
+    // the characters of the keys and values, only one of them is not null
+    private final byte[] bytes;
+    private final char[] chars;
+    // the key of the entry i is from offsets[2 * i] to offsets[2 * i + 1] and its value from there to offsets[2 * i + 2]
+    private final int[] offsets;
+    private final int[] hashes;
+    // 1 + the index of an entry, 0 for a free slot
+    private final int[] table;
+    private final int size;
+
+    private CompactProperties(Map<String, String> properties) {
+        size = properties.size();
+        int length = 0;
+        boolean latin1 = true;
+        for (Map.Entry<String, String> entry : properties.entrySet()) {
+            length += entry.getKey().length() + entry.getValue().length();
+            latin1 = latin1 && isLatin1(entry.getKey()) && isLatin1(entry.getValue());
+        }
+        bytes = latin1 ? new byte[length] : null;
+        chars = latin1 ? null : new char[length];
+        offsets = new int[2 * size + 1];
+        hashes = new int[size];
+        // at most half full
+        table = new int[Integer.highestOneBit(Math.max(size, 1)) << 2];
+
+        int i = 0;
+        int offset = 0;
+        for (Map.Entry<String, String> entry : properties.entrySet()) {
+            String key = entry.getKey();
+            offsets[2 * i] = offset;
+            offset = append(key, offset);
+            offsets[2 * i + 1] = offset;
+            offset = append(entry.getValue(), offset);
+            int hash = key.hashCode();
+            hashes[i] = hash;
+            int slot = slot(hash);
+            while (table[slot] != 0) {
+                slot = (slot + 1) & (table.length - 1);
+            }
+            table[slot] = i + 1;
+            i++;
+        }
+        offsets[2 * size] = offset;
+    }
+
+    /**
+     * Returns the properties in a compact map if there are at least {@code minSize} of them.
+     *
+     * @return the compact map or the properties if there are fewer of them or if they are already compact
+     */
+    static Map<String, String> compact(Map<String, String> properties, int minSize) {
+        if (properties instanceof CompactProperties || properties.size() < minSize) {
+            return properties;
+        }
+        return new CompactProperties(properties);
+    }
+
+    private static boolean isLatin1(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            if (s.charAt(i) > 0xff) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int append(String s, int offset) {
+        int length = s.length();
+        if (bytes != null) {
+            for (int i = 0; i < length; i++) {
+                bytes[offset + i] = (byte) s.charAt(i);
+            }
+        } else {
+            s.getChars(0, length, chars, offset);
+        }
+        return offset + length;
+    }
+
+    private int slot(int hash) {
+        return (hash ^ (hash >>> 16)) & (table.length - 1);
+    }
+
+    /**
+     * @return the index of the entry of the key or {@code -1}
+     */
+    private int indexOf(Object key) {
+        if (!(key instanceof String)) {
+            return -1;
+        }
+        String name = (String) key;
+        int hash = name.hashCode();
+        int slot = slot(hash);
+        int entry;
+        while ((entry = table[slot]) != 0) {
+            int index = entry - 1;
+            if (hashes[index] == hash && matches(index, name)) {
+                return index;
+            }
+            slot = (slot + 1) & (table.length - 1);
+        }
+        return -1;
+    }
+
+    private boolean matches(int index, String name) {
+        int start = offsets[2 * index];
+        int length = offsets[2 * index + 1] - start;
+        if (length != name.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = bytes != null ? (char) (bytes[start + i] & 0xff) : chars[start + i];
+            if (c != name.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // the deprecated constructor copies ISO 8859-1 bytes without going through a charset decoder
+    @SuppressWarnings("deprecation")
+    private String string(int start, int end) {
+        return bytes != null ? new String(bytes, 0, start, end - start) : new String(chars, start, end - start);
+    }
+
+    private String key(int index) {
+        return string(offsets[2 * index], offsets[2 * index + 1]);
+    }
+
+    private String value(int index) {
+        return string(offsets[2 * index + 1], offsets[2 * index + 2]);
+    }
+
+    @Override
+    public String get(Object key) {
+        int index = indexOf(key);
+        return index < 0 ? null : value(index);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super String> action) {
+        for (int i = 0; i < size; i++) {
+            action.accept(key(i), value(i));
+        }
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return new AbstractSet<String>() {
+            @Override
+            public Iterator<String> iterator() {
+                return new EntryIterator<String>() {
+                    @Override
+                    String get(int index) {
+                        return key(index);
+                    }
+                };
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                return containsKey(o);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    @Override
+    public Set<Map.Entry<String, String>> entrySet() {
+        return new AbstractSet<Map.Entry<String, String>>() {
+            @Override
+            public Iterator<Map.Entry<String, String>> iterator() {
+                return new EntryIterator<Map.Entry<String, String>>() {
+                    @Override
+                    Map.Entry<String, String> get(int index) {
+                        return new SimpleImmutableEntry<>(key(index), value(index));
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private abstract class EntryIterator<E> implements Iterator<E> {
+
+        private int next;
+
+        abstract E get(int index);
+
+        @Override
+        public boolean hasNext() {
+            return next < size;
+        }
+
+        @Override
+        public E next() {
+            if (next >= size) {
+                throw new NoSuchElementException();
+            }
+            return get(next++);
+        }
+    }
+}
@@ -7,10 +7,28 @@ import java.util.Map;
 import org.eclipse.microprofile.config.Config;
 import org.eclipse.microprofile.config.spi.ConfigSource;
 import org.eclipse.microprofile.config.spi.Converter;
+import org.jboss.logging.Logger;
 
 /**
  * Created by bob on 6/26/18.
  */
 public interface ConfigFactory {
     Config newConfig(List<ConfigSource> sources, Map<Type, Converter> configConverters);
+
+    /**
+     * Creates the config with the options of the {@link SmallRyeConfigBuilder}.
+     *
+     * The default implementation ignores the options, and logs a warning if any of them is enabled.
+     * A factory that creates a {@link SmallRyeConfig} should pass them to its constructor.
+     *
+     * @param cacheValues whether the converted values are cached, see {@link SmallRyeConfigBuilder#withValueCache()}
+     * @param indexStaticSources whether the static config sources are indexed, see {@link SmallRyeConfigBuilder#withStaticSourcesIndex()}
+     */
+    default Config newConfig(List<ConfigSource> sources, Map<Type, Converter> configConverters, boolean cacheValues, boolean indexStaticSources) {
+        if (cacheValues || indexStaticSources) {
+            Logger.getLogger("io.smallrye.config").warnf("%s ignores the value cache and the static sources index of the builder",
+                    getClass().getName());
+        }
+        return newConfig(sources, configConverters);
+    }
 }
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.config;
+
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+import org.eclipse.microprofile.config.spi.Converter;
+
+/**
+ * Handle to read the value of a property of a {@link SmallRyeConfig}.
+ *
+ * Handles are created with {@link SmallRyeConfig#handle(String, Class)} and are safe to share between threads.
+ *
+ * @param <T> the type of the property
+ */
+public final class ConfigKey<T> {
+
+    private final SmallRyeConfig config;
+    private final String name;
+    private final Class<T> type;
+    // null for arrays that are converted on every read as they are mutable
+    private final Converter<T> converter;
+    private volatile State<T> state;
+
+    @SuppressWarnings("unchecked")
+    ConfigKey(SmallRyeConfig config, String name, Class<T> type) {
+        this.config = config;
+        this.name = name;
+        this.type = type;
+        this.converter = type.isArray() ? null : config.getConverter(type);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Class<T> getType() {
+        return type;
+    }
+
+    /**
+     * Returns the value of the property, as {@link SmallRyeConfig#getValue(String, Class)} does.
+     *
+     * @return the value of the property
+     * @throws NoSuchElementException if the property is not defined
+     */
+    public T getValue() {
+        State<T> state = resolve();
+        if (state.rawValue == null) {
+            throw new NoSuchElementException("Property " + name + " not found");
+        }
+        return state.converted ? state.value : config.convert(state.rawValue, type);
+    }
+
+    /**
+     * Returns the value of the property, as {@link SmallRyeConfig#getOptionalValue(String, Class)} does.
+     *
+     * @return the value of the property or an empty {@code Optional} if the property is not defined
+     */
+    public Optional<T> getOptionalValue() {
+        State<T> state = resolve();
+        if (state.rawValue == null) {
+            return Optional.empty();
+        }
+        if (state.rawValue.length() == 0) {
+            // treat empty value as null, the value of a config source with a lower ordinal may be used
+            return config.getOptionalValue(name, type);
+        }
+        return Optional.ofNullable(state.converted ? state.value : config.convert(state.rawValue, type));
+    }
+
+    private State<T> resolve() {
+        State<T> current = state;
+        int generation = config.getGeneration();
+        if (current != null && current.stable && current.generation == generation) {
+            return current;
+        }
+
+        // read after the generation and only once: the values can not be older than the generation
+        ConfigSnapshot snapshot = config.getSnapshot();
+        boolean stable = true;
+        String rawValue = snapshot.getStableRawValue(name);
+        if (rawValue == null) {
+            rawValue = snapshot.getRawValue(name);
+            stable = rawValue == null && snapshot.hasOnlyStableSources();
+        }
+        if (current != null && current.stable == stable && current.generation == generation
+                && (rawValue == null ? current.rawValue == null : rawValue.equals(current.rawValue))) {
+            return current;
+        }
+
+        State<T> resolved;
+        if (current != null && rawValue != null && rawValue.equals(current.rawValue)) {
+            // the value has not changed, keep its converted value
+            resolved = new State<>(generation, stable, rawValue, current.converted, current.value);
+        } else if (rawValue == null || rawValue.length() == 0 || converter == null) {
+            resolved = new State<>(generation, stable, rawValue, false, null);
+        } else {
+            resolved = new State<>(generation, stable, rawValue, true, converter.convert(rawValue));
+        }
+        state = resolved;
+        return resolved;
+    }
+
+    @Override
+    public String toString() {
+        return "ConfigKey[name=" + name + ", type=" + type.getName() + "]";
+    }
+
+    private static final class State<T> {
+        private final int generation;
+        // whether the value is supplied by a config source that can not change
+        private final boolean stable;
+        private final String rawValue;
+        private final boolean converted;
+        private final T value;
+
+        private State(int generation, boolean stable, String rawValue, boolean converted, T value) {
+            this.generation = generation;
+            this.stable = stable;
+            this.rawValue = rawValue;
+            this.converted = converted;
+            this.value = value;
+        }
+    }
+}
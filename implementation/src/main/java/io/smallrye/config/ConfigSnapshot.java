@@ -0,0 +1,393 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.config;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+
+/**
+ * Immutable state of a {@link SmallRyeConfig}: its ordered config sources and the index and cache built from them.
+ *
+ * A config publishes a new snapshot when it is reloaded. Readers that hold the previous snapshot keep
+ * reading from it and are never blocked.
+ */
+class ConfigSnapshot implements Serializable {
+
+    private final List<ConfigSource> configSources;
+    // null when converted values are not cached
+    private final ConfigValueCache valueCache;
+    // null when the static sources are not indexed
+    private final StaticSourcesIndex staticSourcesIndex;
+    // number of leading config sources whose values can not change
+    private final int stableSourcesCount;
+    // config sources whose property names can change
+    private final List<ConfigSource> dynamicSources;
+    // sorted names of the other config sources, built on first use
+    private transient volatile NavigableSet<String> staticPropertyNames;
+
+    ConfigSnapshot(List<ConfigSource> configSources, boolean cacheValues, boolean indexStaticSources) {
+        this.configSources = Collections.unmodifiableList(new ArrayList<>(configSources));
+        this.valueCache = cacheValues ? new ConfigValueCache() : null;
+        this.staticSourcesIndex = indexStaticSources ? new StaticSourcesIndex(this.configSources) : null;
+        this.stableSourcesCount = countStableSources();
+        this.dynamicSources = new ArrayList<>();
+        for (ConfigSource configSource : this.configSources) {
+            if (indexStaticSources ? !StaticSourcesIndex.isStatic(configSource) : !StaticSourcesIndex.isImmutable(configSource)) {
+                dynamicSources.add(configSource);
+            }
+        }
+    }
+
+    private ConfigSnapshot(ConfigSnapshot snapshot) {
+        this.configSources = snapshot.configSources;
+        // the pinned values must neither be cached in the config nor read from its cache
+        this.valueCache = snapshot.valueCache != null ? new ConfigValueCache() : null;
+        this.staticSourcesIndex = snapshot.staticSourcesIndex;
+        this.stableSourcesCount = snapshot.stableSourcesCount;
+        this.dynamicSources = snapshot.dynamicSources;
+        this.staticPropertyNames = snapshot.staticPropertyNames;
+    }
+
+    /**
+     * Returns a new snapshot of the config sources, with the same options as this snapshot.
+     */
+    ConfigSnapshot reload(List<ConfigSource> configSources) {
+        return new ConfigSnapshot(configSources, valueCache != null, staticSourcesIndex != null);
+    }
+
+    /**
+     * Returns a view of this snapshot where every property keeps the first value that is read,
+     * including the values of the dynamic config sources.
+     */
+    ConfigSnapshot pin() {
+        return new PinnedConfigSnapshot(this);
+    }
+
+    boolean isPinned() {
+        return false;
+    }
+
+    List<ConfigSource> getConfigSources() {
+        return configSources;
+    }
+
+    ConfigValueCache getValueCache() {
+        return valueCache;
+    }
+
+    /**
+     * Returns the config sources whose property names can change.
+     */
+    List<ConfigSource> getDynamicSources() {
+        return dynamicSources;
+    }
+
+    /**
+     * Returns the sorted names of the properties of the config sources whose property names can not change.
+     * They are read once per snapshot.
+     */
+    NavigableSet<String> getStaticPropertyNames() {
+        NavigableSet<String> names = staticPropertyNames;
+        if (names == null) {
+            TreeSet<String> sortedNames;
+            if (staticSourcesIndex != null) {
+                sortedNames = new TreeSet<>(staticSourcesIndex.getPropertyNames());
+            } else {
+                sortedNames = new TreeSet<>();
+                for (ConfigSource configSource : configSources) {
+                    if (StaticSourcesIndex.isImmutable(configSource)) {
+                        sortedNames.addAll(configSource.getPropertyNames());
+                    }
+                }
+            }
+            names = Collections.unmodifiableNavigableSet(sortedNames);
+            staticPropertyNames = names;
+        }
+        return names;
+    }
+
+    /**
+     * Returns the names of the properties of all the config sources, without duplicates.
+     *
+     * The names of the config sources that can not change are read once per snapshot. The names
+     * of the other config sources are streamed from the sources on each iteration.
+     */
+    Iterable<String> getPropertyNames() {
+        if (dynamicSources.isEmpty()) {
+            return getStaticPropertyNames();
+        }
+        return () -> new PropertyNamesIterator(getStaticPropertyNames(), dynamicSources);
+    }
+
+    /**
+     * Returns the first value of the property that is not {@code null}.
+     */
+    String getRawValue(String name) {
+        if (staticSourcesIndex != null) {
+            return staticSourcesIndex.getValue(name);
+        }
+        for (ConfigSource configSource : configSources) {
+            String value = configSource.getValue(name);
+            if (value != null) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the first value of the property that is neither {@code null} nor empty.
+     */
+    String getNonEmptyRawValue(String name) {
+        if (staticSourcesIndex != null) {
+            return staticSourcesIndex.getNonEmptyValue(name);
+        }
+        for (ConfigSource configSource : configSources) {
+            String value = configSource.getValue(name);
+            if (value != null && value.length() > 0) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the first value of each property that is neither {@code null} nor empty.
+     * Each config source is queried once with all the properties that are still unresolved.
+     *
+     * @return the values of the properties that are found, keyed by their name
+     */
+    Map<String, String> getNonEmptyRawValues(Collection<String> names) {
+        Map<String, String> values = new HashMap<>();
+        if (staticSourcesIndex != null) {
+            staticSourcesIndex.getNonEmptyValues(names, values);
+            return values;
+        }
+        Set<String> remaining = new LinkedHashSet<>(names);
+        for (ConfigSource configSource : configSources) {
+            if (remaining.isEmpty()) {
+                break;
+            }
+            readNonEmptyValues(configSource, remaining, values);
+            remaining.removeIf(values::containsKey);
+        }
+        return values;
+    }
+
+    /**
+     * Reads the values of the properties from the config source, with a single call if it is a {@link BulkConfigSource}.
+     * The values that are neither {@code null} nor empty are added to {@code values}.
+     */
+    static void readNonEmptyValues(ConfigSource configSource, Collection<String> names, Map<String, String> values) {
+        if (configSource instanceof BulkConfigSource) {
+            for (Map.Entry<String, String> entry : ((BulkConfigSource) configSource).getValues(names).entrySet()) {
+                String value = entry.getValue();
+                if (value != null && value.length() > 0) {
+                    values.put(entry.getKey(), value);
+                }
+            }
+        } else {
+            for (String name : names) {
+                String value = configSource.getValue(name);
+                if (value != null && value.length() > 0) {
+                    values.put(name, value);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the value of the property if it is supplied by a config source that can not change
+     * and that has a higher ordinal than all the config sources that can change, or {@code null}.
+     */
+    String getStableRawValue(String name) {
+        if (staticSourcesIndex != null) {
+            return staticSourcesIndex.getStableValue(name);
+        }
+        for (int i = 0; i < stableSourcesCount; i++) {
+            String value = configSources.get(i).getValue(name);
+            if (value != null) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Whether all the config sources are stable so that a property that is not found can not appear.
+     */
+    boolean hasOnlyStableSources() {
+        return stableSourcesCount == configSources.size();
+    }
+
+    private static class PropertyNamesIterator implements Iterator<String> {
+
+        private final Set<String> staticNames;
+        private final Iterator<ConfigSource> dynamicSources;
+        // names of the dynamic sources that are already returned
+        private final Set<String> dynamicNames = new HashSet<>();
+        private Iterator<String> names;
+        private boolean iteratingStaticNames = true;
+        private String next;
+
+        PropertyNamesIterator(Set<String> staticNames, List<ConfigSource> dynamicSources) {
+            this.staticNames = staticNames;
+            this.dynamicSources = dynamicSources.iterator();
+            this.names = staticNames.iterator();
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null) {
+                if (names.hasNext()) {
+                    String name = names.next();
+                    if (iteratingStaticNames || (!staticNames.contains(name) && dynamicNames.add(name))) {
+                        next = name;
+                    }
+                } else if (dynamicSources.hasNext()) {
+                    names = dynamicSources.next().getPropertyNames().iterator();
+                    iteratingStaticNames = false;
+                } else {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public String next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            String name = next;
+            next = null;
+            return name;
+        }
+    }
+
+    private int countStableSources() {
+        if (staticSourcesIndex != null) {
+            return Math.min(staticSourcesIndex.getFirstDynamicPosition(), configSources.size());
+        }
+        int count = 0;
+        while (count < configSources.size() && StaticSourcesIndex.isImmutable(configSources.get(count))) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Snapshot that keeps the values of each property as they are first read.
+     *
+     * The values of a property are pinned together, so that its value and its first non-empty value always
+     * agree. The properties are pinned one by one: two properties first read at different times can reflect
+     * different states of a config source that can change.
+     */
+    private static class PinnedConfigSnapshot extends ConfigSnapshot {
+
+        private final transient ConcurrentMap<String, PinnedValue> values = new ConcurrentHashMap<>();
+
+        private PinnedConfigSnapshot(ConfigSnapshot snapshot) {
+            super(snapshot);
+        }
+
+        private Object readResolve() {
+            // the values read before the serialization are not kept
+            return new PinnedConfigSnapshot(this);
+        }
+
+        @Override
+        ConfigSnapshot pin() {
+            return this;
+        }
+
+        @Override
+        boolean isPinned() {
+            return true;
+        }
+
+        private PinnedValue getPinnedValue(String name) {
+            return values.computeIfAbsent(name, n -> {
+                String rawValue = super.getRawValue(n);
+                // the first value that is not empty is also the first non-empty value
+                String nonEmptyRawValue = rawValue == null || rawValue.length() > 0 ? rawValue : super.getNonEmptyRawValue(n);
+                return new PinnedValue(rawValue, nonEmptyRawValue);
+            });
+        }
+
+        @Override
+        String getRawValue(String name) {
+            return getPinnedValue(name).rawValue;
+        }
+
+        @Override
+        String getNonEmptyRawValue(String name) {
+            return getPinnedValue(name).nonEmptyRawValue;
+        }
+
+        @Override
+        Map<String, String> getNonEmptyRawValues(Collection<String> names) {
+            // read one by one so that each property is pinned with all its values
+            Map<String, String> found = new HashMap<>();
+            for (String name : names) {
+                String value = getNonEmptyRawValue(name);
+                if (value != null) {
+                    found.put(name, value);
+                }
+            }
+            return found;
+        }
+
+        @Override
+        String getStableRawValue(String name) {
+            return getRawValue(name);
+        }
+
+        @Override
+        boolean hasOnlyStableSources() {
+            return true;
+        }
+
+    }
+
+    private static final class PinnedValue {
+        // null if the property is not found
+        private final String rawValue;
+        private final String nonEmptyRawValue;
+
+        private PinnedValue(String rawValue, String nonEmptyRawValue) {
+            this.rawValue = rawValue;
+            this.nonEmptyRawValue = nonEmptyRawValue;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.config;
+
+import java.io.Serializable;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * Cache of converted property values keyed by property name and target type.
+ *
+ * The cache also records the properties that are not found in any config source so that
+ * looking them up again does not query the sources. At most {@link #MAX_MISSING_PROPERTIES} missing properties
+ * are recorded: the cache grows with the number of distinct properties that are found, but looking up
+ * arbitrary names does not make it grow without bound. The other missing properties are looked up every time.
+ *
+ * The entries of a property are grouped in a per-name {@link Entry} so that a single property
+ * can be invalidated without scanning the whole cache. A reader grabs the entry <em>before</em>
+ * it reads the config sources: if the property is invalidated in the meantime, the value
+ * (or its absence) is stored in a detached entry and never becomes visible.
+ *
+ * The cached values are not serialized, a deserialized config starts with an empty cache.
+ */
+class ConfigValueCache implements Serializable {
+
+    static final int MAX_MISSING_PROPERTIES = 1024;
+
+    private static final AtomicIntegerFieldUpdater<Entry> MISSING = AtomicIntegerFieldUpdater.newUpdater(Entry.class, "missing");
+
+    private transient ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+    // number of entries whose missing flag is set
+    private transient AtomicInteger missingCount = new AtomicInteger();
+
+    @SuppressWarnings("unchecked")
+    <T> T get(String name, Type type) {
+        Entry entry = entries.get(name);
+        return entry == null ? null : (T) entry.values.get(type);
+    }
+
+    boolean isMissing(String name) {
+        Entry entry = entries.get(name);
+        return entry != null && entry.missing != 0;
+    }
+
+    Entry entryOf(String name) {
+        return entries.computeIfAbsent(name, n -> new Entry());
+    }
+
+    void put(Entry entry, Type type, Object value) {
+        if (value != null) {
+            entry.values.put(type, value);
+        }
+    }
+
+    void putMissing(String name, Entry entry) {
+        if (missingCount.incrementAndGet() > MAX_MISSING_PROPERTIES) {
+            missingCount.decrementAndGet();
+            // the property is not recorded as missing, do not keep its entry
+            if (entry.values.isEmpty()) {
+                entries.remove(name, entry);
+            }
+            return;
+        }
+        if (!MISSING.compareAndSet(entry, 0, 1)) {
+            missingCount.decrementAndGet();
+            return;
+        }
+        if (entries.get(name) != entry) {
+            // invalidated while the sources were read
+            uncount(entry);
+        }
+    }
+
+    void invalidate(String name) {
+        Entry entry = entries.remove(name);
+        if (entry != null) {
+            uncount(entry);
+        }
+    }
+
+    void invalidateAll() {
+        for (String name : entries.keySet()) {
+            invalidate(name);
+        }
+    }
+
+    // the entry is counted once, whether it is uncounted by the invalidation or by the reader
+    private void uncount(Entry entry) {
+        if (MISSING.compareAndSet(entry, 1, 0)) {
+            missingCount.decrementAndGet();
+        }
+    }
+
+    private Object readResolve() {
+        return new ConfigValueCache();
+    }
+
+    static class Entry {
+        private final Map<Type, Object> values = new ConcurrentHashMap<>(4);
+        // not private, it is updated by MISSING
+        volatile int missing;
+    }
+}
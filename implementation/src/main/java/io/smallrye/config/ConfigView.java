@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.spi.ConfigSource;
+
+/**
+ * View of the properties of a {@link SmallRyeConfig} that share a prefix.
+ *
+ * The names of the properties are relative to the prefix: the property {@code datasource.url} is
+ * named {@code url} in the view of the {@code datasource} prefix.
+ *
+ * @see SmallRyeConfig#view(String)
+ */
+public class ConfigView implements Config {
+
+    private final SmallRyeConfig config;
+    private final String prefix;
+
+    ConfigView(SmallRyeConfig config, String prefix) {
+        this.config = config;
+        this.prefix = prefix;
+    }
+
+    /**
+     * @return the prefix of the properties of this view, including the trailing dot
+     */
+    public String getPrefix() {
+        return prefix;
+    }
+
+    @Override
+    public <T> T getValue(String name, Class<T> aClass) {
+        return config.getValue(prefix + name, aClass);
+    }
+
+    @Override
+    public <T> Optional<T> getOptionalValue(String name, Class<T> aClass) {
+        return config.getOptionalValue(prefix + name, aClass);
+    }
+
+    /**
+     * @return the sorted names of the properties of this view, relative to its prefix
+     */
+    @Override
+    public Iterable<String> getPropertyNames() {
+        List<String> names = new ArrayList<>();
+        for (String name : config.getPropertyNames(prefix)) {
+            names.add(name.substring(prefix.length()));
+        }
+        return names;
+    }
+
+    @Override
+    public Iterable<ConfigSource> getConfigSources() {
+        return config.getConfigSources();
+    }
+
+    /**
+     * Returns a view of the properties of this view whose names start with the prefix followed by a dot.
+     *
+     * @param prefix the prefix of the properties, relative to the prefix of this view and without the trailing dot
+     * @return a view of the properties
+     */
+    public ConfigView view(String prefix) {
+        return config.view(this.prefix + prefix);
+    }
+
+    @Override
+    public String toString() {
+        return "ConfigView[prefix=" + prefix + "]";
+    }
+}
@@ -17,9 +17,16 @@
 package io.smallrye.config;
 
 import java.io.Serializable;
+import java.lang.reflect.Array;
 import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import org.eclipse.microprofile.config.spi.Converter;
 
@@ -32,32 +39,19 @@ class Converters {
     static final Converter<String> STRING_CONVERTER = (Converter & Serializable) value -> value;
 
     @SuppressWarnings("unchecked")
-    static final Converter<Boolean> BOOLEAN_CONVERTER = (Converter & Serializable) value -> {
-        if (value != null) {
-            return "TRUE".equalsIgnoreCase(value)
-                    || "1".equalsIgnoreCase(value)
-                    || "YES".equalsIgnoreCase(value)
-                    || "Y".equalsIgnoreCase(value)
-                    || "ON".equalsIgnoreCase(value)
-                    || "JA".equalsIgnoreCase(value)
-                    || "J".equalsIgnoreCase(value)
-                    || "SI".equalsIgnoreCase(value)
-                    || "OUI".equalsIgnoreCase(value);
-        }
-        return null;
-    };
+    static final Converter<Boolean> BOOLEAN_CONVERTER = (CharSequenceConverter & Serializable) (value, offset, length) -> parseBoolean(value, offset, length);
 
     @SuppressWarnings("unchecked")
-    static final Converter<Double> DOUBLE_CONVERTER = (Converter & Serializable) value -> value != null ? Double.valueOf(value) : null;
+    static final Converter<Double> DOUBLE_CONVERTER = (CharSequenceConverter & Serializable) (value, offset, length) -> Double.valueOf(toString(value, offset, length));
 
     @SuppressWarnings("unchecked")
-    static final Converter<Float> FLOAT_CONVERTER = (Converter & Serializable) value -> value != null ? Float.valueOf(value) : null;
+    static final Converter<Float> FLOAT_CONVERTER = (CharSequenceConverter & Serializable) (value, offset, length) -> Float.valueOf(toString(value, offset, length));
 
     @SuppressWarnings("unchecked")
-    static final Converter<Long> LONG_CONVERTER = (Converter & Serializable) value -> value != null ? Long.valueOf(value) : null;
+    static final Converter<Long> LONG_CONVERTER = (CharSequenceConverter & Serializable) (value, offset, length) -> Long.valueOf(parseLong(value, offset, length));
 
     @SuppressWarnings("unchecked")
-    static final Converter<Integer> INTEGER_CONVERTER = (Converter & Serializable) value -> value != null ? Integer.valueOf(value) : null;
+    static final Converter<Integer> INTEGER_CONVERTER = (CharSequenceConverter & Serializable) (value, offset, length) -> Integer.valueOf(parseInt(value, offset, length));
 
     @SuppressWarnings("unchecked")
     static final Converter<Class<?>> CLASS_CONVERTER = (Converter & Serializable) value -> {
@@ -68,6 +62,362 @@ class Converters {
         }
     };
 
+    static <T> Converter<List<T>> newListConverter(Converter<T> itemConverter) {
+        return (Converter<List<T>> & Serializable) value -> convertList(value, itemConverter);
+    }
+
+    static <T> Converter<Set<T>> newSetConverter(Converter<T> itemConverter) {
+        return (Converter<Set<T>> & Serializable) value -> convertSet(value, itemConverter);
+    }
+
+    static <T> Converter<Optional<T>> newOptionalConverter(Converter<T> converter) {
+        return (Converter<Optional<T>> & Serializable) value -> Optional.ofNullable(converter.convert(value));
+    }
+
+    static Converter<Object> newArrayConverter(Class<?> componentType, Converter<?> converter) {
+        return (Converter<Object> & Serializable) value -> value != null ? convertArray(value, componentType, converter) : null;
+    }
+
+    /**
+     * Converts the comma-separated elements of the value to an immutable list.
+     */
+    static <T> List<T> convertList(String value, Converter<T> itemConverter) {
+        if (value == null) {
+            return Collections.emptyList();
+        }
+        StringUtil.Segments segments = new StringUtil.Segments(value);
+        int count = segments.count();
+        switch (count) {
+            case 0:
+                return Collections.emptyList();
+            case 1:
+                segments.advance();
+                return Collections.singletonList(convertSegment(segments, itemConverter));
+            default:
+                Object[] items = new Object[count];
+                for (int i = 0; segments.advance(); i++) {
+                    items[i] = convertSegment(segments, itemConverter);
+                }
+                return Collections.unmodifiableList((List<T>) Arrays.asList(items));
+        }
+    }
+
+    /**
+     * Converts the comma-separated elements of the value to an immutable set that keeps their order.
+     */
+    static <T> Set<T> convertSet(String value, Converter<T> itemConverter) {
+        if (value == null) {
+            return Collections.emptySet();
+        }
+        StringUtil.Segments segments = new StringUtil.Segments(value);
+        if (!segments.advance()) {
+            return Collections.emptySet();
+        }
+        T first = convertSegment(segments, itemConverter);
+        if (!segments.advance()) {
+            return Collections.singleton(first);
+        }
+        Set<T> items = new LinkedHashSet<>();
+        items.add(first);
+        do {
+            items.add(convertSegment(segments, itemConverter));
+        } while (segments.advance());
+        return Collections.unmodifiableSet(items);
+    }
+
+    /**
+     * Converts the comma-separated elements of the value to an array of the component type. The primitive arrays
+     * supported by the built-in converters are filled directly, without boxing their elements.
+     */
+    static Object convertArray(String value, Class<?> componentType, Converter<?> converter) {
+        StringUtil.Segments segments = new StringUtil.Segments(value);
+        int count = segments.count();
+        if (!componentType.isPrimitive()) {
+            Object[] array = (Object[]) Array.newInstance(componentType, count);
+            for (int i = 0; segments.advance(); i++) {
+                array[i] = convertSegment(segments, converter);
+            }
+            return array;
+        } else if (componentType == int.class) {
+            int[] array = new int[count];
+            boolean builtIn = converter == INTEGER_CONVERTER;
+            for (int i = 0; segments.advance(); i++) {
+                array[i] = builtIn && !segments.isEscaped()
+                        ? parseInt(segments.getText(), segments.getStart(), segments.getLength())
+                        : (Integer) convertSegment(segments, converter);
+            }
+            return array;
+        } else if (componentType == long.class) {
+            long[] array = new long[count];
+            boolean builtIn = converter == LONG_CONVERTER;
+            for (int i = 0; segments.advance(); i++) {
+                array[i] = builtIn && !segments.isEscaped()
+                        ? parseLong(segments.getText(), segments.getStart(), segments.getLength())
+                        : (Long) convertSegment(segments, converter);
+            }
+            return array;
+        } else if (componentType == double.class) {
+            double[] array = new double[count];
+            boolean builtIn = converter == DOUBLE_CONVERTER;
+            for (int i = 0; segments.advance(); i++) {
+                array[i] = builtIn ? Double.parseDouble(segments.current()) : (Double) convertSegment(segments, converter);
+            }
+            return array;
+        } else if (componentType == boolean.class) {
+            boolean[] array = new boolean[count];
+            boolean builtIn = converter == BOOLEAN_CONVERTER;
+            for (int i = 0; segments.advance(); i++) {
+                array[i] = builtIn && !segments.isEscaped()
+                        ? parseBoolean(segments.getText(), segments.getStart(), segments.getLength())
+                        : (Boolean) convertSegment(segments, converter);
+            }
+            return array;
+        } else {
+            Object array = Array.newInstance(componentType, count);
+            for (int i = 0; segments.advance(); i++) {
+                Array.set(array, i, convertSegment(segments, converter));
+            }
+            return array;
+        }
+    }
+
+    /**
+     * Converts the current element of the segments, without creating a string if the converter accepts regions.
+     */
+    private static <T> T convertSegment(StringUtil.Segments segments, Converter<T> converter) {
+        if (converter instanceof CharSequenceConverter && !segments.isEscaped()) {
+            return ((CharSequenceConverter<T>) converter).convert(segments.getText(), segments.getStart(), segments.getLength());
+        }
+        return converter.convert(segments.current());
+    }
+
+    /**
+     * Same as {@link Integer#parseInt(String)} on a region of the value.
+     */
+    static int parseInt(CharSequence value, int offset, int length) {
+        if (length == 0) {
+            throw forInputString(value, offset, length);
+        }
+        int i = offset;
+        int end = offset + length;
+        boolean negative = false;
+        // accumulate negatively to reach Integer.MIN_VALUE
+        int limit = -Integer.MAX_VALUE;
+        char first = value.charAt(i);
+        if (first < '0') {
+            if (first == '-') {
+                negative = true;
+                limit = Integer.MIN_VALUE;
+            } else if (first != '+') {
+                throw forInputString(value, offset, length);
+            }
+            if (length == 1) {
+                throw forInputString(value, offset, length);
+            }
+            i++;
+        }
+        int multiplicationLimit = limit / 10;
+        int result = 0;
+        for (; i < end; i++) {
+            int digit = Character.digit(value.charAt(i), 10);
+            if (digit < 0 || result < multiplicationLimit) {
+                throw forInputString(value, offset, length);
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                throw forInputString(value, offset, length);
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    /**
+     * Same as {@link Long#parseLong(String)} on a region of the value.
+     */
+    static long parseLong(CharSequence value, int offset, int length) {
+        if (length == 0) {
+            throw forInputString(value, offset, length);
+        }
+        int i = offset;
+        int end = offset + length;
+        boolean negative = false;
+        // accumulate negatively to reach Long.MIN_VALUE
+        long limit = -Long.MAX_VALUE;
+        char first = value.charAt(i);
+        if (first < '0') {
+            if (first == '-') {
+                negative = true;
+                limit = Long.MIN_VALUE;
+            } else if (first != '+') {
+                throw forInputString(value, offset, length);
+            }
+            if (length == 1) {
+                throw forInputString(value, offset, length);
+            }
+            i++;
+        }
+        long multiplicationLimit = limit / 10;
+        long result = 0;
+        for (; i < end; i++) {
+            int digit = Character.digit(value.charAt(i), 10);
+            if (digit < 0 || result < multiplicationLimit) {
+                throw forInputString(value, offset, length);
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                throw forInputString(value, offset, length);
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    private static NumberFormatException forInputString(CharSequence value, int offset, int length) {
+        return new NumberFormatException("For input string: \"" + value.subSequence(offset, offset + length) + "\"");
+    }
+
+    /**
+     * Returns the region of the value as a string, to be parsed by the JDK methods that only accept strings
+     * such as {@link Double#parseDouble(String)} and {@link Float#parseFloat(String)}.
+     *
+     * A string spanning the whole value is returned as is, only a region of a larger value (such as
+     * an element of an array) or a value that is not a string is copied into a new string.
+     */
+    static String toString(CharSequence value, int offset, int length) {
+        if (value instanceof String && offset == 0 && length == value.length()) {
+            return (String) value;
+        }
+        return value.subSequence(offset, offset + length).toString();
+    }
+
+    /**
+     * Parses the region with the syntax accepted by {@link Long#parseLong(String)} and returns it as an {@link Integer}
+     * or a {@link Long}, or {@code null} if it is not an integer of that type.
+     *
+     * The region is scanned once and no exception is thrown, the boxed result is the one returned by
+     * {@link #tryConvert(CharSequence, int, int, Converter)} so that no other object is allocated.
+     */
+    static Number tryParseInteger(CharSequence value, int offset, int length, boolean asInt) {
+        if (length == 0) {
+            return null;
+        }
+        int i = offset;
+        int end = offset + length;
+        boolean negative = false;
+        // accumulate negatively to reach the minimum value
+        long limit = asInt ? -Integer.MAX_VALUE : -Long.MAX_VALUE;
+        char first = value.charAt(i);
+        if (first < '0') {
+            if (first == '-') {
+                negative = true;
+                limit = asInt ? Integer.MIN_VALUE : Long.MIN_VALUE;
+            } else if (first != '+') {
+                return null;
+            }
+            if (length == 1) {
+                return null;
+            }
+            i++;
+        }
+        long multiplicationLimit = limit / 10;
+        long result = 0;
+        for (; i < end; i++) {
+            int digit = Character.digit(value.charAt(i), 10);
+            if (digit < 0 || result < multiplicationLimit) {
+                return null;
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                return null;
+            }
+            result -= digit;
+        }
+        result = negative ? result : -result;
+        return asInt ? (Number) Integer.valueOf((int) result) : (Number) Long.valueOf(result);
+    }
+
+    /**
+     * Converts a region of the value, or returns {@code null} if it can not be converted.
+     *
+     * The built-in integer, long and boolean converters check the region without throwing an exception,
+     * other converters have their {@link IllegalArgumentException} caught. The built-in double and float
+     * converters still create a string for a region of a larger value, see {@link #toString(CharSequence, int, int)}.
+     */
+    static <T> T tryConvert(CharSequence value, int offset, int length, Converter<T> converter) {
+        if (converter == INTEGER_CONVERTER) {
+            return (T) tryParseInteger(value, offset, length, true);
+        } else if (converter == LONG_CONVERTER) {
+            return (T) tryParseInteger(value, offset, length, false);
+        } else if (converter == BOOLEAN_CONVERTER) {
+            return (T) Boolean.valueOf(parseBoolean(value, offset, length));
+        }
+        try {
+            if (converter instanceof CharSequenceConverter) {
+                return ((CharSequenceConverter<T>) converter).convert(value, offset, length);
+            }
+            return converter.convert(toString(value, offset, length));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Same as {@link #parseBoolean(String)} on a region of the value.
+     *
+     * The true values are dispatched on their length and compared character by character
+     * instead of calling {@link String#equalsIgnoreCase(String)} for each of them.
+     */
+    static boolean parseBoolean(CharSequence value, int offset, int length) {
+        switch (length) {
+            case 1: {
+                char c = value.charAt(offset);
+                // 1, Y, J
+                return c == '1' || equalsIgnoreCase(c, 'Y') || equalsIgnoreCase(c, 'J');
+            }
+            case 2: {
+                char c1 = value.charAt(offset);
+                char c2 = value.charAt(offset + 1);
+                // ON, JA, SI
+                return (equalsIgnoreCase(c1, 'O') && equalsIgnoreCase(c2, 'N'))
+                        || (equalsIgnoreCase(c1, 'J') && equalsIgnoreCase(c2, 'A'))
+                        || (equalsIgnoreCase(c1, 'S') && equalsIgnoreCase(c2, 'I'));
+            }
+            case 3: {
+                char c1 = value.charAt(offset);
+                char c2 = value.charAt(offset + 1);
+                char c3 = value.charAt(offset + 2);
+                // YES, OUI
+                return (equalsIgnoreCase(c1, 'Y') && equalsIgnoreCase(c2, 'E') && equalsIgnoreCase(c3, 'S'))
+                        || (equalsIgnoreCase(c1, 'O') && equalsIgnoreCase(c2, 'U') && equalsIgnoreCase(c3, 'I'));
+            }
+            case 4:
+                // TRUE
+                return equalsIgnoreCase(value.charAt(offset), 'T')
+                        && equalsIgnoreCase(value.charAt(offset + 1), 'R')
+                        && equalsIgnoreCase(value.charAt(offset + 2), 'U')
+                        && equalsIgnoreCase(value.charAt(offset + 3), 'E');
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Same as {@link String#equalsIgnoreCase(String)} for a single character and an upper case ASCII letter.
+     */
+    private static boolean equalsIgnoreCase(char c, char upperCase) {
+        if (c < 128) {
+            return c == upperCase || c == upperCase + ('a' - 'A');
+        }
+        // non-ASCII characters such as the dotless i can match an ASCII letter
+        char u = Character.toUpperCase(c);
+        return u == upperCase || Character.toLowerCase(u) == Character.toLowerCase(upperCase);
+    }
+
+    static boolean parseBoolean(String value) {
+        return parseBoolean(value, 0, value.length());
+    }
+
     public static final Map<Type, Converter> ALL_CONVERTERS = new HashMap<>();
 
     static {
@@ -27,6 +27,13 @@ import org.eclipse.microprofile.config.spi.ConfigSource;
 import org.jboss.logging.Logger;
 
 /**
+ * Config source whose properties are the files of a directory, the name of a file being the property name
+ * and its content the property value.
+ *
+ * The directory is scanned when the config source is created. A lazy config source only reads the {@code config_ordinal}
+ * file when it is created and scans the directory when a property is first read, see
+ * {@link #DirConfigSource(File, int, int, boolean)}. The properties of large directories can be stored in compact arrays.
+ *
  * @author <a href="http://jmesnil.net/">Jeff Mesnil</a> (c) 2017 Red Hat inc.
  */
 public class DirConfigSource implements ConfigSource {
@@ -34,26 +41,81 @@ public class DirConfigSource implements ConfigSource {
     private static final Logger LOG = Logger.getLogger("io.smallrye.config");
 
     private static final String CONFIG_ORDINAL_KEY = "config_ordinal";
-    private static final String CONFIG_ORDINAL_DEFAULT_VALUE = "100";
 
     private final File dir;
     private final int ordinal;
-    private final Map<String, String> props;
+    private final int compactSize;
+    private volatile Map<String, String> props;
 
     DirConfigSource(File dir) {
         this(dir, DEFAULT_ORDINAL);
     }
 
     public DirConfigSource(File dir, int ordinal) {
+        this(dir, ordinal, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param compactSize the minimum number of files of the directory for its properties to be stored in compact
+     *                    arrays instead of a {@link HashMap}, the strings of a property are then created every time it is read
+     */
+    public DirConfigSource(File dir, int ordinal, int compactSize) {
+        this(dir, ordinal, compactSize, false);
+    }
+
+    /**
+     * @param compactSize the minimum number of files of the directory for its properties to be stored in compact arrays
+     * @param lazy whether the directory is scanned when a property is first read instead of when the config source is created,
+     *             the files that are added or removed in the meantime are then taken into account and the files that can not
+     *             be read are only reported then
+     */
+    public DirConfigSource(File dir, int ordinal, int compactSize, boolean lazy) {
         this.dir = dir;
-        this.props = scan();
-        if (props.containsKey(CONFIG_ORDINAL_KEY)) {
-            this.ordinal = Integer.valueOf(props.getOrDefault(CONFIG_ORDINAL_KEY, CONFIG_ORDINAL_DEFAULT_VALUE));
+        this.compactSize = compactSize;
+        String configuredOrdinal;
+        if (lazy) {
+            configuredOrdinal = readOrdinal();
+        } else {
+            props = CompactProperties.compact(scan(), compactSize);
+            configuredOrdinal = props.get(CONFIG_ORDINAL_KEY);
+        }
+        if (configuredOrdinal != null) {
+            this.ordinal = Integer.valueOf(configuredOrdinal);
         } else {
             this.ordinal = ordinal;
         }
     }
 
+    private String readOrdinal() {
+        if (dir == null || !dir.isDirectory()) {
+            return null;
+        }
+        File file = new File(dir, CONFIG_ORDINAL_KEY);
+        if (!file.isFile()) {
+            return null;
+        }
+        try {
+            return readContent(file);
+        } catch (Throwable t) {
+            LOG.warnf("Unable to read content from file %s", file.getAbsolutePath());
+            return null;
+        }
+    }
+
+    private Map<String, String> getProps() {
+        Map<String, String> scanned = props;
+        if (scanned == null) {
+            synchronized (this) {
+                scanned = props;
+                if (scanned == null) {
+                    scanned = CompactProperties.compact(scan(), compactSize);
+                    props = scanned;
+                }
+            }
+        }
+        return scanned;
+    }
+
     private Map<String, String> scan() {
         Map<String, String> props = new HashMap<>();
         if (dir == null || !dir.isDirectory()) {
@@ -82,12 +144,12 @@ public class DirConfigSource implements ConfigSource {
 
     @Override
     public Map<String, String> getProperties() {
-        return props;
+        return getProps();
     }
 
     @Override
     public String getValue(String key) {
-        return props.get(key);
+        return getProps().get(key);
     }
 
     @Override
@@ -19,6 +19,7 @@ package io.smallrye.config;
 import java.io.Serializable;
 import java.util.Collections;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.microprofile.config.spi.ConfigSource;
 
@@ -35,6 +36,11 @@ public class EnvConfigSource implements ConfigSource, Serializable {
         return Collections.unmodifiableMap(System.getenv());
     }
 
+    @Override
+    public Set<String> getPropertyNames() {
+        return System.getenv().keySet();
+    }
+
     @Override
     public int getOrdinal() {
         return 300;
@@ -53,7 +59,7 @@ public class EnvConfigSource implements ConfigSource, Serializable {
         }
 
         // replace non-alphanumeric characters by underscores
-        name = name.replaceAll("[^a-zA-Z0-9_]", "_");
+        name = replaceNonAlphanumericByUnderscores(name);
 
         value = System.getenv(name);
         if (value != null) {
@@ -68,4 +74,35 @@ public class EnvConfigSource implements ConfigSource, Serializable {
     public String getName() {
         return "EnvConfigSource";
     }
+
+    /**
+     * Same as {@code name.replaceAll("[^a-zA-Z0-9_]", "_")} without the regular expression:
+     * each code point to replace, including a supplementary one, gives a single underscore.
+     * The name is returned as is if it has no character to replace.
+     */
+    static String replaceNonAlphanumericByUnderscores(String name) {
+        int i = 0;
+        while (i < name.length() && isValidChar(name.charAt(i))) {
+            i++;
+        }
+        if (i == name.length()) {
+            return name;
+        }
+        StringBuilder sb = new StringBuilder(name.length());
+        sb.append(name, 0, i);
+        while (i < name.length()) {
+            int cp = name.codePointAt(i);
+            sb.append(cp < 128 && isValidChar((char) cp) ? (char) cp : '_');
+            i += Character.charCount(cp);
+        }
+        return sb.toString();
+    }
+
+    private static boolean isValidChar(char c) {
+        return isAsciiAlphanumeric(c) || c == '_';
+    }
+
+    private static boolean isAsciiAlphanumeric(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
 }
@@ -16,11 +16,15 @@
 package io.smallrye.config;
 
 import java.io.IOException;
+import java.io.InvalidObjectException;
 import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 
@@ -33,92 +37,182 @@ import org.eclipse.microprofile.config.spi.Converter;
  */
 class ImplicitConverters {
 
+    private static final String CONSTRUCTOR = "<init>";
+    // the method handles are adapted to this type so that they can be invoked exactly
+    private static final MethodType CONVERTER_TYPE = MethodType.methodType(Object.class, String.class);
+
+    // marks the classes that have no implicit converter
+    private static final Converter<?> NO_CONVERTER = value -> {
+        throw new UnsupportedOperationException();
+    };
+
+    // the implicit converter of each class is looked up once and shared by all the configs
+    private static final ClassValue<Converter<?>> CONVERTERS = new ClassValue<Converter<?>>() {
+        @Override
+        protected Converter<?> computeValue(Class<?> type) {
+            Converter<?> converter = findConverter(type);
+            return converter == null ? NO_CONVERTER : converter;
+        }
+    };
+
     static Converter getConverter(Class<?> clazz) {
-        for (Converter converter : new Converter[] {
-                // implicit converters required by the specification
-                getConverterFromStaticMethod(clazz, "of", String.class),
-                getConverterFromStaticMethod(clazz, "valueOf", String.class),
-                getConverterFromConstructor(clazz, String.class),
-                getConverterFromStaticMethod(clazz, "parse", CharSequence.class),
-
-                // additional implicit converters
-                getConverterFromConstructor(clazz, CharSequence.class),
-                getConverterFromStaticMethod(clazz, "valueOf", CharSequence.class),
-                getConverterFromStaticMethod(clazz, "parse", String.class),
-        }) {
-            if (converter != null) {
-                return converter;
-            }
+        Converter converter = CONVERTERS.get(clazz);
+        return converter == NO_CONVERTER ? null : converter;
+    }
+
+    private static Converter findConverter(Class<?> clazz) {
+        // implicit converters required by the specification
+        Converter converter = getConverterFromStaticMethod(clazz, "of", String.class);
+        if (converter == null) {
+            converter = getConverterFromStaticMethod(clazz, "valueOf", String.class);
         }
-        return null;
+        if (converter == null) {
+            converter = getConverterFromConstructor(clazz, String.class);
+        }
+        if (converter == null) {
+            converter = getConverterFromStaticMethod(clazz, "parse", CharSequence.class);
+        }
+
+        // additional implicit converters
+        if (converter == null) {
+            converter = getConverterFromConstructor(clazz, CharSequence.class);
+        }
+        if (converter == null) {
+            converter = getConverterFromStaticMethod(clazz, "valueOf", CharSequence.class);
+        }
+        if (converter == null) {
+            converter = getConverterFromStaticMethod(clazz, "parse", String.class);
+        }
+        return converter;
     }
 
     private static Converter getConverterFromConstructor(Class<?> clazz, Class<?> paramType) {
+        MethodHandle handle = findConstructor(clazz, paramType);
+        return handle == null ? null : new MethodHandleConverter(clazz, CONSTRUCTOR, paramType, handle);
+    }
+
+    private static Converter getConverterFromStaticMethod(Class<?> clazz, String methodName, Class<?> paramType) {
+        MethodHandle handle = findStaticMethod(clazz, methodName, paramType);
+        return handle == null ? null : new MethodHandleConverter(clazz, methodName, paramType, handle);
+    }
+
+    /**
+     * @return the direct method handle of the constructor or {@code null} if there is none
+     */
+    private static MethodHandle findConstructor(Class<?> clazz, Class<?> paramType) {
         try {
             final Constructor<?> declaredConstructor = clazz.getDeclaredConstructor(paramType);
             if (!declaredConstructor.isAccessible()) {
                 declaredConstructor.setAccessible(true);
             }
-            return value -> {
-                try {
-                    return declaredConstructor.newInstance(value);
-                } catch (Exception e) {
-                    throw new IllegalArgumentException(e);
-                }
-            };
-        } catch (NoSuchMethodException e) {
+            return MethodHandles.lookup().unreflectConstructor(declaredConstructor);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
         }
         return null;
     }
 
-    private static Converter getConverterFromStaticMethod(Class<?> clazz, String methodName, Class<?> paramType) {
+    /**
+     * @return the direct method handle of the static method or {@code null} if there is none
+     */
+    private static MethodHandle findStaticMethod(Class<?> clazz, String methodName, Class<?> paramType) {
         try {
             final Method method = clazz.getMethod(methodName, paramType);
             if (!method.isAccessible()) {
                 method.setAccessible(true);
             }
             if (Modifier.isStatic(method.getModifiers())) {
-                return new StaticMethodConverter(method);
+                return MethodHandles.lookup().unreflect(method);
             }
-        } catch (NoSuchMethodException e) {
+        } catch (NoSuchMethodException | IllegalAccessException e) {
         }
         return null;
     }
 
-    private static class StaticMethodConverter<T> implements Converter<T>, Serializable {
+    /**
+     * Generates a converter class that calls the member directly, as a hand-written converter would.
+     *
+     * The generated class links to the member from this class: on Java 8 it can only do so if the member is public
+     * and its class is public and visible from the class loader of this class, such as the JDK classes.
+     *
+     * @return the generated converter or {@code null} if the member can not be linked from this class
+     */
+    private static Converter<?> generateConverter(Class<?> declaringClass, String name, Class<?> paramType, MethodHandle handle) {
+        try {
+            int modifiers = CONSTRUCTOR.equals(name)
+                    ? declaringClass.getConstructor(paramType).getModifiers()
+                    : declaringClass.getMethod(name, paramType).getModifiers();
+            if (!Modifier.isPublic(modifiers) || !Modifier.isPublic(declaringClass.getModifiers())
+                    || Class.forName(declaringClass.getName(), false, ImplicitConverters.class.getClassLoader()) != declaringClass) {
+                return null;
+            }
+            CallSite site = LambdaMetafactory.metafactory(MethodHandles.lookup(), "convert", MethodType.methodType(Converter.class),
+                    CONVERTER_TYPE, handle, MethodType.methodType(handle.type().returnType(), String.class));
+            return (Converter<?>) site.getTarget().invoke();
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable t) {
+            // not visible from this class or not public
+            return null;
+        }
+    }
+
+    /**
+     * Converter that invokes a static method or a constructor.
+     *
+     * The call goes through a converter generated with {@link LambdaMetafactory} when the member can be linked
+     * from this class, see {@link #generateConverter(Class, String, Class, MethodHandle)}, so that the JIT can inline
+     * it. Otherwise, for instance for the classes of an application that are only visible from its own class loader,
+     * it goes through a {@link MethodHandle}, that saves the reflective invocation but is not inlined.
+     *
+     * Only the declaring class, the name of the member and its parameter type are serialized,
+     * the generated converter or the method handle is looked up again when the converter is deserialized.
+     */
+    static class MethodHandleConverter<T> implements Converter<T>, Serializable {
+
+        private final Class<?> declaringClass;
+        private final String name;
+        private final Class<?> paramType;
+        private transient Converter<T> generated;
+        private transient MethodHandle handle;
 
-        StaticMethodConverter(Method method) {
-            this.method = method;
+        MethodHandleConverter(Class<?> declaringClass, String name, Class<?> paramType, MethodHandle handle) {
+            this.declaringClass = declaringClass;
+            this.name = name;
+            this.paramType = paramType;
+            init(handle);
+        }
+
+        private void init(MethodHandle handle) {
+            this.generated = (Converter<T>) generateConverter(declaringClass, name, paramType, handle);
+            this.handle = generated == null ? handle.asType(CONVERTER_TYPE) : null;
+        }
+
+        boolean isGenerated() {
+            return generated != null;
         }
 
         @Override
         public T convert(String value) {
             try {
-                return (T) this.method.invoke(null, value);
-            } catch (IllegalAccessException | InvocationTargetException e) {
-                throw new IllegalArgumentException(e);
+                Converter<T> converter = generated;
+                if (converter != null) {
+                    return converter.convert(value);
+                }
+                return (T) (Object) handle.invokeExact(value);
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalArgumentException(t);
             }
         }
 
         private void readObject(ObjectInputStream in) throws ClassNotFoundException, IOException {
-            String clsName = in.readUTF();
-            String methodName = in.readUTF();
-            String paramTypeName = in.readUTF();
-            Class paramType = Class.forName(paramTypeName);
-            Class  cls = Class.forName(clsName);
-            try {
-                this.method = cls.getMethod(methodName, paramType);
-            } catch (NoSuchMethodException e) {
-                throw new RuntimeException(e);
+            in.defaultReadObject();
+            MethodHandle handle = CONSTRUCTOR.equals(name) ? findConstructor(declaringClass, paramType) : findStaticMethod(declaringClass, name, paramType);
+            if (handle == null) {
+                throw new InvalidObjectException("No implicit converter " + declaringClass.getName() + "#" + name + "(" + paramType.getName() + ")");
             }
+            init(handle);
         }
-
-        private void writeObject(ObjectOutputStream out) throws IOException {
-            out.writeUTF( this.method.getDeclaringClass().getName() );
-            out.writeUTF( this.method.getName() );
-            out.writeUTF( this.method.getParameters()[0].getType().getName());
-        }
-
-        transient private Method method;
     }
 }
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.config;
+
+import java.io.IOException;
+import java.io.ObjectStreamException;
+import java.io.Serializable;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.Map;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+
+/**
+ * {@link PropertiesConfigSource} that defers the parsing of its properties file until a property is first read.
+ *
+ * The file is read once, when the config source is created, and its lines are scanned for the {@code config_ordinal}
+ * key without creating the strings of the keys and values. If the key is found, the properties are parsed right away
+ * to read the ordinal. Otherwise the ordinal is the default one and the content of the file is kept until it is
+ * parsed on the first lookup, the file is not read again.
+ */
+public class LazyPropertiesConfigSource implements ConfigSource, Serializable {
+
+    private static final String CONFIG_ORDINAL_KEY = "config_ordinal";
+    private static final String CONFIG_ORDINAL_DEFAULT_VALUE = "100";
+
+    private final String source;
+    private final int ordinal;
+    private final transient int compactSize;
+    // content of the file until it is parsed, guarded by this
+    private transient ByteBuffer content;
+    private transient volatile Map<String, String> properties;
+
+    public LazyPropertiesConfigSource(URL url) throws IOException {
+        this(url, Integer.MAX_VALUE);
+    }
+
+    // files with at least compactSize properties are stored in CompactProperties
+    LazyPropertiesConfigSource(URL url, int compactSize) throws IOException {
+        this.source = url.toString();
+        this.compactSize = compactSize;
+        ByteBuffer content = PropertiesParser.read(url);
+        if (PropertiesParser.containsKey(content, CONFIG_ORDINAL_KEY)) {
+            properties = CompactProperties.compact(PropertiesParser.parse(content), compactSize);
+            this.ordinal = Integer.valueOf(properties.get(CONFIG_ORDINAL_KEY));
+        } else {
+            this.content = content;
+            this.ordinal = Integer.valueOf(CONFIG_ORDINAL_DEFAULT_VALUE);
+        }
+    }
+
+    /**
+     * Whether the properties file has been parsed.
+     */
+    public boolean isLoaded() {
+        return properties != null;
+    }
+
+    @Override
+    public Map<String, String> getProperties() {
+        return Collections.unmodifiableMap(getLoadedProperties());
+    }
+
+    @Override
+    public int getOrdinal() {
+        return ordinal;
+    }
+
+    @Override
+    public String getValue(String s) {
+        return getLoadedProperties().get(s);
+    }
+
+    @Override
+    public String getName() {
+        return "PropertiesConfigSource[source=" + source + "]";
+    }
+
+    @Override
+    public String toString() {
+        return getName();
+    }
+
+    private Map<String, String> getLoadedProperties() {
+        Map<String, String> loaded = properties;
+        if (loaded == null) {
+            synchronized (this) {
+                loaded = properties;
+                if (loaded == null) {
+                    loaded = CompactProperties.compact(PropertiesParser.parse(content), compactSize);
+                    properties = loaded;
+                    content = null;
+                }
+            }
+        }
+        return loaded;
+    }
+
+    // a deserialized config source is a plain PropertiesConfigSource
+    private Object writeReplace() throws ObjectStreamException {
+        return new PropertiesConfigSource(source, ordinal, getLoadedProperties());
+    }
+}
@@ -17,7 +17,6 @@
 package io.smallrye.config;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.Serializable;
 import java.net.URL;
 import java.util.Collections;
@@ -40,12 +39,13 @@ public class PropertiesConfigSource implements ConfigSource, Serializable {
     private final int ordinal;
 
     public PropertiesConfigSource(URL url) throws IOException {
+        this(url, Integer.MAX_VALUE);
+    }
+
+    // files with at least compactSize properties are stored in CompactProperties
+    PropertiesConfigSource(URL url, int compactSize) throws IOException {
         this.source = url.toString();
-        try (InputStream in = url.openStream()) {
-            Properties p = new Properties();
-            p.load(in);
-            properties = new HashMap(p);
-        }
+        this.properties = CompactProperties.compact(PropertiesParser.parse(url), compactSize);
         this.ordinal = Integer.valueOf(properties.getOrDefault(CONFIG_ORDINAL_KEY, CONFIG_ORDINAL_DEFAULT_VALUE));
     }
     public PropertiesConfigSource(Properties properties, String source) {
@@ -64,6 +64,13 @@ public class PropertiesConfigSource implements ConfigSource, Serializable {
         }
     }
 
+    // the properties are owned by this config source and are not copied
+    PropertiesConfigSource(String source, int ordinal, Map<String, String> properties) {
+        this.properties = properties;
+        this.source = source;
+        this.ordinal = ordinal;
+    }
+
     @Override
     public Map<String, String> getProperties() {
         return Collections.unmodifiableMap(properties);
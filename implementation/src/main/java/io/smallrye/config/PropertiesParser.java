@@ -0,0 +1,347 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.config;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Parser of the {@link java.util.Properties#load(InputStream)} format, that reads the ISO 8859-1 bytes of a properties
+ * file directly into a {@link HashMap}.
+ *
+ * Natural lines, comments, continuation lines, key and value separators and escape sequences are parsed exactly
+ * like {@code Properties.load} does, without the synchronized {@code Hashtable} of {@code Properties}.
+ * The only difference is that a comment line never changes how the next line is parsed while the backslashes
+ * at the end of a comment line leak into the next line with the Java 8 {@code Properties}.
+ */
+class PropertiesParser {
+
+    // smaller files are read in memory, mapping a file has a fixed cost
+    private static final long MAPPED_READ_THRESHOLD = 256 * 1024;
+
+    private final ByteBuffer buffer;
+    private final int end;
+    private int pos;
+    private char[] lineBuf = new char[1024];
+    private char[] convertBuf = new char[1024];
+
+    private PropertiesParser(ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.pos = buffer.position();
+        this.end = buffer.limit();
+    }
+
+    /**
+     * Parses the properties file at the URL, large files are memory-mapped.
+     */
+    static Map<String, String> parse(URL url) throws IOException {
+        return parse(read(url));
+    }
+
+    /**
+     * Reads the content of the properties file at the URL, large files are memory-mapped.
+     */
+    static ByteBuffer read(URL url) throws IOException {
+        if ("file".equals(url.getProtocol())) {
+            File file;
+            try {
+                file = new File(url.toURI());
+            } catch (URISyntaxException | IllegalArgumentException e) {
+                file = null;
+            }
+            if (file != null && file.length() >= MAPPED_READ_THRESHOLD) {
+                try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+                    return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                }
+            }
+        }
+        try (InputStream in = url.openStream()) {
+            return read(in);
+        }
+    }
+
+    static Map<String, String> parse(InputStream in) throws IOException {
+        return parse(read(in));
+    }
+
+    private static ByteBuffer read(InputStream in) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(Math.max(in.available(), 8192));
+        byte[] buf = new byte[8192];
+        int read;
+        while ((read = in.read(buf)) != -1) {
+            bytes.write(buf, 0, read);
+        }
+        return ByteBuffer.wrap(bytes.toByteArray());
+    }
+
+    /**
+     * Parses the properties between the position and the limit of the buffer.
+     *
+     * @throws IllegalArgumentException if a {@code \}{@code uxxxx} escape sequence is malformed
+     */
+    static Map<String, String> parse(ByteBuffer buffer) {
+        Map<String, String> properties = new HashMap<>();
+        new PropertiesParser(buffer).parse(properties);
+        return properties;
+    }
+
+    /**
+     * Whether the properties between the position and the limit of the buffer define the key, without creating
+     * the strings of the other keys and of the values.
+     *
+     * @throws IllegalArgumentException if a {@code \}{@code uxxxx} escape sequence of a key is malformed
+     */
+    static boolean containsKey(ByteBuffer buffer, String key) {
+        PropertiesParser parser = new PropertiesParser(buffer);
+        int limit;
+        while ((limit = parser.readLine()) >= 0) {
+            if (parser.keyEquals(parser.keyLength(limit), key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void parse(Map<String, String> properties) {
+        int limit;
+        while ((limit = readLine()) >= 0) {
+            int keyLen = keyLength(limit);
+            int valueStart = limit;
+            boolean hasSep = false;
+            if (keyLen < limit) {
+                valueStart = keyLen + 1;
+                hasSep = lineBuf[keyLen] == '=' || lineBuf[keyLen] == ':';
+            }
+            while (valueStart < limit) {
+                char c = lineBuf[valueStart];
+                if (c != ' ' && c != '\t' && c != '\f') {
+                    if (!hasSep && (c == '=' || c == ':')) {
+                        hasSep = true;
+                    } else {
+                        break;
+                    }
+                }
+                valueStart++;
+            }
+            String key = convert(0, keyLen);
+            String value = convert(valueStart, limit - valueStart);
+            properties.put(key, value);
+        }
+    }
+
+    /**
+     * Returns the length of the key of the line, the key ends at the first separator or white space that is not escaped.
+     * Same as {@code Properties#load0}.
+     */
+    private int keyLength(int limit) {
+        int keyLen = 0;
+        boolean precedingBackslash = false;
+        while (keyLen < limit) {
+            char c = lineBuf[keyLen];
+            if ((c == '=' || c == ':' || c == ' ' || c == '\t' || c == '\f') && !precedingBackslash) {
+                break;
+            }
+            if (c == '\\') {
+                precedingBackslash = !precedingBackslash;
+            } else {
+                precedingBackslash = false;
+            }
+            keyLen++;
+        }
+        return keyLen;
+    }
+
+    private boolean keyEquals(int keyLen, String key) {
+        for (int i = 0; i < keyLen; i++) {
+            if (lineBuf[i] == '\\') {
+                return convert(0, keyLen).equals(key);
+            }
+        }
+        if (keyLen != key.length()) {
+            return false;
+        }
+        for (int i = 0; i < keyLen; i++) {
+            if (lineBuf[i] != key.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reads a logical line in the line buffer, skipping the blank and comment lines and joining the continuation lines.
+     * Same as {@code Properties.LineReader#readLine}.
+     *
+     * @return the length of the line or {@code -1} at the end of the buffer
+     */
+    private int readLine() {
+        int len = 0;
+        boolean skipWhiteSpace = true;
+        boolean isCommentLine = false;
+        boolean isNewLine = true;
+        boolean appendedLineBegin = false;
+        boolean precedingBackslash = false;
+        boolean skipLF = false;
+
+        while (true) {
+            if (pos >= end) {
+                if (len == 0 || isCommentLine) {
+                    return -1;
+                }
+                if (precedingBackslash) {
+                    len--;
+                }
+                return len;
+            }
+            char c = (char) (buffer.get(pos++) & 0xff);
+            if (skipLF) {
+                skipLF = false;
+                if (c == '\n') {
+                    continue;
+                }
+            }
+            if (skipWhiteSpace) {
+                if (c == ' ' || c == '\t' || c == '\f') {
+                    continue;
+                }
+                if (!appendedLineBegin && (c == '\r' || c == '\n')) {
+                    continue;
+                }
+                skipWhiteSpace = false;
+                appendedLineBegin = false;
+            }
+            if (isNewLine) {
+                isNewLine = false;
+                if (c == '#' || c == '!') {
+                    isCommentLine = true;
+                    // the content of a comment line is not kept
+                    while (pos < end) {
+                        byte b = buffer.get(pos);
+                        if (b == '\n' || b == '\r') {
+                            break;
+                        }
+                        pos++;
+                    }
+                    continue;
+                }
+            }
+
+            if (c != '\n' && c != '\r') {
+                if (len == lineBuf.length) {
+                    lineBuf = Arrays.copyOf(lineBuf, len * 2);
+                }
+                lineBuf[len++] = c;
+                if (c == '\\') {
+                    precedingBackslash = !precedingBackslash;
+                } else {
+                    precedingBackslash = false;
+                }
+            } else {
+                // end of a natural line
+                if (isCommentLine || len == 0) {
+                    isCommentLine = false;
+                    isNewLine = true;
+                    skipWhiteSpace = true;
+                    len = 0;
+                    continue;
+                }
+                if (pos >= end) {
+                    if (precedingBackslash) {
+                        len--;
+                    }
+                    return len;
+                }
+                if (precedingBackslash) {
+                    // the line continues on the next natural line, without its leading white spaces
+                    len--;
+                    skipWhiteSpace = true;
+                    appendedLineBegin = true;
+                    precedingBackslash = false;
+                    if (c == '\r') {
+                        skipLF = true;
+                    }
+                } else {
+                    return len;
+                }
+            }
+        }
+    }
+
+    /**
+     * Converts the escape sequences of a key or a value of the line buffer, same as {@code Properties#loadConvert}.
+     */
+    private String convert(int off, int len) {
+        int end = off + len;
+        int i = off;
+        while (i < end && lineBuf[i] != '\\') {
+            i++;
+        }
+        if (i == end) {
+            return new String(lineBuf, off, len);
+        }
+        if (convertBuf.length < len) {
+            convertBuf = new char[Math.max(len, convertBuf.length * 2)];
+        }
+        char[] out = convertBuf;
+        int outLen = i - off;
+        System.arraycopy(lineBuf, off, out, 0, outLen);
+        while (i < end) {
+            char c = lineBuf[i++];
+            if (c == '\\') {
+                c = lineBuf[i++];
+                if (c == 'u') {
+                    if (i + 4 > end) {
+                        throw new IllegalArgumentException("Malformed \\uxxxx encoding.");
+                    }
+                    int value = 0;
+                    for (int j = 0; j < 4; j++) {
+                        int digit = Character.digit(lineBuf[i++], 16);
+                        if (digit < 0) {
+                            throw new IllegalArgumentException("Malformed \\uxxxx encoding.");
+                        }
+                        value = (value << 4) + digit;
+                    }
+                    out[outLen++] = (char) value;
+                } else {
+                    if (c == 't') {
+                        c = '\t';
+                    } else if (c == 'r') {
+                        c = '\r';
+                    } else if (c == 'n') {
+                        c = '\n';
+                    } else if (c == 'f') {
+                        c = '\f';
+                    }
+                    out[outLen++] = c;
+                }
+            } else {
+                out[outLen++] = c;
+            }
+        }
+        return new String(out, 0, outLen);
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.smallrye.config;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.ServiceConfigurationError;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.eclipse.microprofile.config.spi.ConfigSourceProvider;
+import org.eclipse.microprofile.config.spi.Converter;
+
+/**
+ * Pre-computed list of the implementations of the services discovered by {@link SmallRyeConfigBuilder}.
+ *
+ * The index is a properties resource, generated by {@link ServiceIndexGenerator}, that maps the name of each service
+ * to the comma-separated names of its implementations. It lets the builder find the services with a single resource
+ * lookup instead of scanning the classpath with {@link java.util.ServiceLoader} for each service.
+ *
+ * The index also records the names of the classpath entries it was generated from, except the entry it is written to.
+ * An index is only used if the class loader has the same entries, which is checked without reading them, so that
+ * an index of a dependency or of another classpath does not hide the services of the application. Only the entries
+ * of the class loader are compared, not the ones of its parents. They are known for a {@link URLClassLoader} and for
+ * the system class loader, the indexes are not used with other class loaders. The services that no index lists are
+ * found with {@code ServiceLoader}.
+ */
+class ServiceIndex {
+
+    static final String RESOURCE = "META-INF/smallrye-config-services.properties";
+
+    static final String SERVICES_DIRECTORY = "META-INF/services/";
+
+    // key of the names of the classpath entries the index was generated from
+    static final String CLASSPATH = "classpath";
+
+    // services looked up by the builder
+    static final List<Class<?>> SERVICES = Arrays.asList(ConfigSource.class, ConfigSourceProvider.class, Converter.class, ConfigFactory.class);
+
+    // names of the implementations of the services listed by the indexes
+    private final Map<String, String> implementations;
+
+    private ServiceIndex(Map<String, String> implementations) {
+        this.implementations = implementations;
+    }
+
+    /**
+     * @return the indexes of the classpath of the class loader or {@code null} if there is none or they can not be read
+     */
+    static ServiceIndex find(ClassLoader classLoader) {
+        List<URL> classPath = getClassPath(classLoader);
+        if (classPath == null) {
+            return null;
+        }
+        try {
+            Map<String, String> implementations = new HashMap<>();
+            boolean found = false;
+            Enumeration<URL> urls = getResources(classLoader, RESOURCE);
+            while (urls.hasMoreElements()) {
+                URL url = urls.nextElement();
+                found = true;
+                Properties index = new Properties();
+                try (InputStream in = url.openStream()) {
+                    index.load(in);
+                }
+                if (!fingerprint(classPath, getRoot(url)).equals(index.getProperty(CLASSPATH))) {
+                    continue;
+                }
+                for (Class<?> service : SERVICES) {
+                    String names = index.getProperty(service.getName());
+                    if (names != null) {
+                        implementations.putIfAbsent(service.getName(), names);
+                    }
+                }
+            }
+            return found ? new ServiceIndex(implementations) : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    static Enumeration<URL> getResources(ClassLoader classLoader, String resource) throws IOException {
+        return classLoader == null ? ClassLoader.getSystemResources(resource) : classLoader.getResources(resource);
+    }
+
+    /**
+     * Returns the entries of the classpath of the class loader, without its parents and without reading them.
+     *
+     * @return the entries of the classpath or {@code null} if the class loader does not tell its classpath
+     */
+    static List<URL> getClassPath(ClassLoader classLoader) {
+        ClassLoader systemClassLoader = ClassLoader.getSystemClassLoader();
+        if (classLoader instanceof URLClassLoader) {
+            return Arrays.asList(((URLClassLoader) classLoader).getURLs());
+        } else if (classLoader == null || classLoader == systemClassLoader) {
+            return getSystemClassPath();
+        }
+        return null;
+    }
+
+    private static List<URL> getSystemClassPath() {
+        String[] entries = System.getProperty("java.class.path", "").split(File.pathSeparator);
+        List<URL> urls = new ArrayList<>();
+        for (String entry : entries) {
+            if (!entry.isEmpty()) {
+                try {
+                    urls.add(Paths.get(entry).toUri().toURL());
+                } catch (MalformedURLException | InvalidPathException e) {
+                    // not an entry the class loader can read
+                }
+            }
+        }
+        return urls;
+    }
+
+    /**
+     * @return the classpath entry of the index
+     */
+    static String getRoot(URL index) {
+        String url = index.toString();
+        String root = url.substring(0, url.length() - RESOURCE.length());
+        if (root.startsWith("jar:") && root.endsWith("!/")) {
+            root = root.substring("jar:".length(), root.length() - "!/".length());
+        }
+        return root;
+    }
+
+    /**
+     * Returns the names of the entries of the classpath, except its root, as they do not depend on the directory
+     * the application is installed in.
+     */
+    static String fingerprint(List<URL> classPath, String root) {
+        StringBuilder fingerprint = new StringBuilder();
+        for (URL entry : classPath) {
+            String url = entry.toString();
+            if (url.equals(root)) {
+                continue;
+            }
+            if (url.endsWith("/")) {
+                url = url.substring(0, url.length() - 1);
+            }
+            if (fingerprint.length() > 0) {
+                fingerprint.append(',');
+            }
+            fingerprint.append(url.substring(url.lastIndexOf('/') + 1));
+        }
+        return fingerprint.toString();
+    }
+
+    /**
+     * Instantiates the implementations of the service, in the order of the index.
+     *
+     * @return the implementations of the service or {@code null} if no index covers the service
+     * @throws ServiceConfigurationError if an implementation can not be instantiated, like {@link java.util.ServiceLoader}
+     */
+    <S> List<S> load(Class<S> service, ClassLoader classLoader) {
+        String names = implementations.get(service.getName());
+        if (names == null) {
+            return null;
+        }
+        List<S> services = new ArrayList<>();
+        for (String name : StringUtil.split(names)) {
+            name = name.trim();
+            if (!name.isEmpty()) {
+                services.add(newInstance(service, name, classLoader));
+            }
+        }
+        return services;
+    }
+
+    static <S> S newInstance(Class<S> service, String name, ClassLoader classLoader) {
+        Class<?> clazz;
+        try {
+            clazz = Class.forName(name, false, classLoader);
+        } catch (ClassNotFoundException e) {
+            throw new ServiceConfigurationError(service.getName() + ": Provider " + name + " not found", e);
+        }
+        return newInstance(service, clazz);
+    }
+
+    static <S> S newInstance(Class<S> service, Class<?> clazz) {
+        String name = clazz.getName();
+        if (!service.isAssignableFrom(clazz)) {
+            throw new ServiceConfigurationError(service.getName() + ": Provider " + name + " not a subtype");
+        }
+        try {
+            return service.cast(clazz.getConstructor().newInstance());
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            throw new ServiceConfigurationError(service.getName() + ": Provider " + name + " could not be instantiated", e);
+        }
+    }
+}
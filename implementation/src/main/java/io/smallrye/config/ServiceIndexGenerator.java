@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.smallrye.config;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generates the {@link ServiceIndex} of a classpath so that {@link SmallRyeConfigBuilder} does not scan it
+ * with {@link java.util.ServiceLoader} when it builds a config.
+ *
+ * It is meant to run at the end of the build of an application, with the runtime classpath of the application,
+ * for example with the {@code java} goal of the {@code exec-maven-plugin}:
+ *
+ * <pre>
+ * java -cp &lt;classpath&gt; io.smallrye.config.ServiceIndexGenerator target/classes
+ * </pre>
+ *
+ * The index must be generated again whenever the classpath changes.
+ */
+public class ServiceIndexGenerator {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: " + ServiceIndexGenerator.class.getName() + " <output directory>");
+            System.exit(1);
+        }
+        Path file = Paths.get(args[0]).resolve(ServiceIndex.RESOURCE);
+        generate(Thread.currentThread().getContextClassLoader(), file);
+        System.out.println("Generated " + file);
+    }
+
+    /**
+     * Writes the index of the services visible from the class loader to the file.
+     */
+    static void generate(ClassLoader classLoader, Path file) throws IOException {
+        Map<String, String> index = new LinkedHashMap<>();
+        List<URL> classPath = ServiceIndex.getClassPath(classLoader);
+        if (classPath == null) {
+            throw new IllegalArgumentException("The classpath of " + classLoader + " is not known");
+        }
+        for (Class<?> service : ServiceIndex.SERVICES) {
+            index.put(service.getName(), String.join(",", findImplementations(classLoader, service.getName())));
+        }
+        // the directory the index is written to is its classpath entry
+        Path root = file.toAbsolutePath().getParent().getParent();
+        Files.createDirectories(file.getParent());
+        index.put(ServiceIndex.CLASSPATH, ServiceIndex.fingerprint(classPath, root.toUri().toURL().toString()));
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.ISO_8859_1)) {
+            writer.write("# Generated by " + ServiceIndexGenerator.class.getName() + ", do not edit\n");
+            for (Map.Entry<String, String> entry : index.entrySet()) {
+                writer.write(escape(entry.getKey()) + "=" + escape(entry.getValue()) + "\n");
+            }
+        }
+    }
+
+    /**
+     * Returns the implementations of the service in the order {@link java.util.ServiceLoader} would find them.
+     */
+    static List<String> findImplementations(ClassLoader classLoader, String service) throws IOException {
+        Set<String> names = new LinkedHashSet<>();
+        Enumeration<URL> resources = ServiceIndex.getResources(classLoader, ServiceIndex.SERVICES_DIRECTORY + service);
+        while (resources.hasMoreElements()) {
+            try (InputStream in = resources.nextElement().openStream();
+                 BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    int comment = line.indexOf('#');
+                    if (comment >= 0) {
+                        line = line.substring(0, comment);
+                    }
+                    line = line.trim();
+                    if (!line.isEmpty()) {
+                        names.add(line);
+                    }
+                }
+            }
+        }
+        return new ArrayList<>(names);
+    }
+
+    // the index is read with Properties#load, which expects ISO-8859-1 with unicode escapes
+    private static String escape(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c > 0x7e) {
+                escaped.append(String.format("\\u%04x", (int) c));
+            } else {
+                escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+}
@@ -16,18 +16,27 @@
 
 package io.smallrye.config;
 
-import static java.lang.reflect.Array.newInstance;
-
 import java.io.Serializable;
-import java.lang.reflect.Array;
+import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableSet;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import org.eclipse.microprofile.config.Config;
 import org.eclipse.microprofile.config.spi.ConfigSource;
@@ -38,65 +47,525 @@ import org.eclipse.microprofile.config.spi.Converter;
  */
 public class SmallRyeConfig implements Config, Serializable {
 
-    private final List<ConfigSource> configSources;
-    private Map<Type, Converter> converters;
+    private final ConcurrentMap<Type, Converter> converters;
+    // composed converters of generic types and arrays, not serialized as the JDK parameterized types are not serializable
+    private transient volatile ConcurrentMap<Type, Converter> composedConverters;
+    private volatile ConfigSnapshot snapshot;
+    private static final AtomicReferenceFieldUpdater<SmallRyeConfig, ConfigSnapshot> SNAPSHOT =
+            AtomicReferenceFieldUpdater.newUpdater(SmallRyeConfig.class, ConfigSnapshot.class, "snapshot");
+    // incremented every time the config changes so that property handles resolve their value again
+    private final AtomicInteger generation = new AtomicInteger();
 
     protected SmallRyeConfig(List<ConfigSource> configSources, Map<Type, Converter> converters) {
-        this.configSources = configSources;
-        this.converters = new HashMap<>(Converters.ALL_CONVERTERS);
+        this(configSources, converters, false, false);
+    }
+
+    protected SmallRyeConfig(List<ConfigSource> configSources, Map<Type, Converter> converters, boolean cacheValues, boolean indexStaticSources) {
+        this.converters = new ConcurrentHashMap<>(Converters.ALL_CONVERTERS);
         this.converters.putAll(converters);
+        this.snapshot = new ConfigSnapshot(configSources, cacheValues, indexStaticSources);
+    }
+
+    private SmallRyeConfig(ConcurrentMap<Type, Converter> converters, ConfigSnapshot snapshot) {
+        this.converters = converters;
+        this.snapshot = snapshot;
     }
 
     @Override
     public <T> T getValue(String name, Class<T> aClass) {
-        for (ConfigSource configSource : configSources) {
-            String value = configSource.getValue(name);
+        return getValue(name, (Type) aClass);
+    }
+
+    /**
+     * Returns the value of a property converted to a type that can be generic, such as {@code List<Integer>}.
+     *
+     * @param name the name of the property
+     * @param type the type to convert to
+     * @return the converted value
+     * @throws NoSuchElementException if the property is not defined
+     * @see #resolveConverter(Type)
+     */
+    public <T> T getValue(String name, Type type) {
+        ConfigSnapshot snapshot = this.snapshot;
+        ConfigValueCache valueCache = snapshot.getValueCache();
+        if (valueCache == null) {
+            String value = snapshot.getRawValue(name);
             if (value != null) {
-                return convert(value, aClass);
+                return convert(value, type);
             }
+            throw new NoSuchElementException("Property " + name + " not found");
+        }
+
+        T cached = valueCache.get(name, type);
+        if (cached != null) {
+            return cached;
         }
-        throw new NoSuchElementException("Property " + name + " not found");
+        if (valueCache.isMissing(name)) {
+            throw new NoSuchElementException("Property " + name + " not found");
+        }
+        ConfigValueCache.Entry entry = valueCache.entryOf(name);
+        String value = snapshot.getRawValue(name);
+        if (value == null) {
+            valueCache.putMissing(name, entry);
+            throw new NoSuchElementException("Property " + name + " not found");
+        }
+        T converted = convert(value, type);
+        if (isCacheable(value, type)) {
+            valueCache.put(entry, type, converted);
+        }
+        return converted;
     }
 
     @Override
     public <T> Optional<T> getOptionalValue(String name, Class<T> aClass) {
-        for (ConfigSource configSource : configSources) {
-            String value = configSource.getValue(name);
-            // treat empty value as null
-            if (value != null && value.length() > 0) {
-                return Optional.of(convert(value, aClass));
+        return getOptionalValue(name, (Type) aClass);
+    }
+
+    /**
+     * Returns the value of a property converted to a type that can be generic, such as {@code List<Integer>}.
+     *
+     * @param name the name of the property
+     * @param type the type to convert to
+     * @return the converted value or an empty {@code Optional} if the property is not defined
+     * @see #resolveConverter(Type)
+     */
+    public <T> Optional<T> getOptionalValue(String name, Type type) {
+        ConfigSnapshot snapshot = this.snapshot;
+        ConfigValueCache valueCache = snapshot.getValueCache();
+        ConfigValueCache.Entry entry = null;
+        if (valueCache != null) {
+            T cached = valueCache.get(name, type);
+            if (cached != null) {
+                return Optional.of(cached);
+            }
+            if (valueCache.isMissing(name)) {
+                return Optional.empty();
+            }
+            entry = valueCache.entryOf(name);
+        }
+
+        String value = snapshot.getRawValue(name);
+        if (value == null) {
+            if (valueCache != null) {
+                valueCache.putMissing(name, entry);
+            }
+            return Optional.empty();
+        }
+        // treat empty value as null
+        if (value.length() == 0) {
+            // a value found after an empty one is not the value returned by getValue(), do not cache it
+            value = snapshot.getNonEmptyRawValue(name);
+            return value == null ? Optional.empty() : Optional.of(convert(value, type));
+        }
+        T converted = convert(value, type);
+        if (valueCache != null && isCacheable(value, type)) {
+            valueCache.put(entry, type, converted);
+        }
+        return Optional.of(converted);
+    }
+
+    /**
+     * Returns the values of several properties.
+     *
+     * This is the same as calling {@code getOptionalValue(name, String.class)} for each property but every
+     * config source is queried once with all the properties that are still unresolved.
+     *
+     * @param names the names of the properties
+     * @return the values of the properties that are defined, keyed by their name
+     * @see BulkConfigSource
+     */
+    public Map<String, String> getValues(Collection<String> names) {
+        return getValues(names, String.class);
+    }
+
+    /**
+     * Returns the values of several properties converted to the same type.
+     *
+     * This is the same as calling {@code getOptionalValue(name, aClass)} for each property but every
+     * config source is queried once with all the properties that are still unresolved.
+     *
+     * @param names the names of the properties
+     * @param aClass the type of the properties
+     * @param <T> the type of the properties
+     * @return the values of the properties that are defined, keyed by their name
+     * @see BulkConfigSource
+     */
+    public <T> Map<String, T> getValues(Collection<String> names, Class<T> aClass) {
+        Map<String, String> rawValues = snapshot.getNonEmptyRawValues(names);
+        if (rawValues.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, T> values = new HashMap<>((int) (rawValues.size() / 0.75f) + 1);
+        for (Map.Entry<String, String> entry : rawValues.entrySet()) {
+            values.put(entry.getKey(), convert(entry.getValue(), aClass));
+        }
+        return Collections.unmodifiableMap(values);
+    }
+
+    /**
+     * Returns the value of the property as an {@code int}.
+     *
+     * This is the same as {@code getValue(name, Integer.class)} but the value is parsed without boxing
+     * unless a custom converter is registered for {@code Integer}.
+     *
+     * @param name the name of the property
+     * @return the value of the property
+     * @throws NoSuchElementException if the property is not defined
+     */
+    public int getIntValue(String name) {
+        if (snapshot.getValueCache() != null || converters.get(Integer.class) != Converters.INTEGER_CONVERTER) {
+            return getValue(name, Integer.class);
+        }
+        return Integer.parseInt(getRequiredRawValue(name));
+    }
+
+    /**
+     * Returns the value of the property as an {@code int} or the default value if the property is not defined.
+     *
+     * @param name the name of the property
+     * @param defaultValue the value returned if the property is not defined
+     * @return the value of the property or the default value
+     */
+    public int getIntValue(String name, int defaultValue) {
+        if (snapshot.getValueCache() != null || converters.get(Integer.class) != Converters.INTEGER_CONVERTER) {
+            return getOptionalValue(name, Integer.class).orElse(defaultValue);
+        }
+        String value = getOptionalRawValue(name);
+        return value == null ? defaultValue : Integer.parseInt(value);
+    }
+
+    /**
+     * Returns the value of the property as an {@link OptionalInt}.
+     *
+     * @param name the name of the property
+     * @return the value of the property or an empty {@code OptionalInt} if the property is not defined
+     */
+    public OptionalInt getOptionalIntValue(String name) {
+        if (snapshot.getValueCache() != null || converters.get(Integer.class) != Converters.INTEGER_CONVERTER) {
+            Optional<Integer> value = getOptionalValue(name, Integer.class);
+            return value.isPresent() ? OptionalInt.of(value.get()) : OptionalInt.empty();
+        }
+        String value = getOptionalRawValue(name);
+        return value == null ? OptionalInt.empty() : OptionalInt.of(Integer.parseInt(value));
+    }
+
+    /**
+     * Returns the value of the property as a {@code long}.
+     *
+     * This is the same as {@code getValue(name, Long.class)} but the value is parsed without boxing
+     * unless a custom converter is registered for {@code Long}.
+     *
+     * @param name the name of the property
+     * @return the value of the property
+     * @throws NoSuchElementException if the property is not defined
+     */
+    public long getLongValue(String name) {
+        if (snapshot.getValueCache() != null || converters.get(Long.class) != Converters.LONG_CONVERTER) {
+            return getValue(name, Long.class);
+        }
+        return Long.parseLong(getRequiredRawValue(name));
+    }
+
+    /**
+     * Returns the value of the property as a {@code long} or the default value if the property is not defined.
+     *
+     * @param name the name of the property
+     * @param defaultValue the value returned if the property is not defined
+     * @return the value of the property or the default value
+     */
+    public long getLongValue(String name, long defaultValue) {
+        if (snapshot.getValueCache() != null || converters.get(Long.class) != Converters.LONG_CONVERTER) {
+            return getOptionalValue(name, Long.class).orElse(defaultValue);
+        }
+        String value = getOptionalRawValue(name);
+        return value == null ? defaultValue : Long.parseLong(value);
+    }
+
+    /**
+     * Returns the value of the property as an {@link OptionalLong}.
+     *
+     * @param name the name of the property
+     * @return the value of the property or an empty {@code OptionalLong} if the property is not defined
+     */
+    public OptionalLong getOptionalLongValue(String name) {
+        if (snapshot.getValueCache() != null || converters.get(Long.class) != Converters.LONG_CONVERTER) {
+            Optional<Long> value = getOptionalValue(name, Long.class);
+            return value.isPresent() ? OptionalLong.of(value.get()) : OptionalLong.empty();
+        }
+        String value = getOptionalRawValue(name);
+        return value == null ? OptionalLong.empty() : OptionalLong.of(Long.parseLong(value));
+    }
+
+    /**
+     * Returns the value of the property as a {@code double}.
+     *
+     * This is the same as {@code getValue(name, Double.class)} but the value is parsed without boxing
+     * unless a custom converter is registered for {@code Double}.
+     *
+     * @param name the name of the property
+     * @return the value of the property
+     * @throws NoSuchElementException if the property is not defined
+     */
+    public double getDoubleValue(String name) {
+        if (snapshot.getValueCache() != null || converters.get(Double.class) != Converters.DOUBLE_CONVERTER) {
+            return getValue(name, Double.class);
+        }
+        return Double.parseDouble(getRequiredRawValue(name));
+    }
+
+    /**
+     * Returns the value of the property as a {@code double} or the default value if the property is not defined.
+     *
+     * @param name the name of the property
+     * @param defaultValue the value returned if the property is not defined
+     * @return the value of the property or the default value
+     */
+    public double getDoubleValue(String name, double defaultValue) {
+        if (snapshot.getValueCache() != null || converters.get(Double.class) != Converters.DOUBLE_CONVERTER) {
+            return getOptionalValue(name, Double.class).orElse(defaultValue);
+        }
+        String value = getOptionalRawValue(name);
+        return value == null ? defaultValue : Double.parseDouble(value);
+    }
+
+    /**
+     * Returns the value of the property as an {@link OptionalDouble}.
+     *
+     * @param name the name of the property
+     * @return the value of the property or an empty {@code OptionalDouble} if the property is not defined
+     */
+    public OptionalDouble getOptionalDoubleValue(String name) {
+        if (snapshot.getValueCache() != null || converters.get(Double.class) != Converters.DOUBLE_CONVERTER) {
+            Optional<Double> value = getOptionalValue(name, Double.class);
+            return value.isPresent() ? OptionalDouble.of(value.get()) : OptionalDouble.empty();
+        }
+        String value = getOptionalRawValue(name);
+        return value == null ? OptionalDouble.empty() : OptionalDouble.of(Double.parseDouble(value));
+    }
+
+    /**
+     * Returns the value of the property as a {@code boolean}.
+     *
+     * This is the same as {@code getValue(name, Boolean.class)} but the value is parsed without boxing
+     * unless a custom converter is registered for {@code Boolean}.
+     *
+     * @param name the name of the property
+     * @return the value of the property
+     * @throws NoSuchElementException if the property is not defined
+     */
+    public boolean getBooleanValue(String name) {
+        if (snapshot.getValueCache() != null || converters.get(Boolean.class) != Converters.BOOLEAN_CONVERTER) {
+            return getValue(name, Boolean.class);
+        }
+        return Converters.parseBoolean(getRequiredRawValue(name));
+    }
+
+    /**
+     * Returns the value of the property as a {@code boolean} or the default value if the property is not defined.
+     *
+     * @param name the name of the property
+     * @param defaultValue the value returned if the property is not defined
+     * @return the value of the property or the default value
+     */
+    public boolean getBooleanValue(String name, boolean defaultValue) {
+        if (snapshot.getValueCache() != null || converters.get(Boolean.class) != Converters.BOOLEAN_CONVERTER) {
+            return getOptionalValue(name, Boolean.class).orElse(defaultValue);
+        }
+        String value = getOptionalRawValue(name);
+        return value == null ? defaultValue : Converters.parseBoolean(value);
+    }
+
+    /**
+     * Returns a handle to read the value of a property.
+     *
+     * The handle binds the converter of the type once. A value supplied by a config source that can not
+     * change is kept by the handle and returned without any lookup until the config changes.
+     * Other values are looked up on every read but are converted again only if they have changed.
+     *
+     * @param name the name of the property
+     * @param type the type of the property
+     * @param <T> the type of the property
+     * @return a handle to read the value of the property
+     */
+    public <T> ConfigKey<T> handle(String name, Class<T> type) {
+        return new ConfigKey<>(this, name, type);
+    }
+
+    /**
+     * Returns a view of the current state of this config.
+     *
+     * The view is not affected when this config is reloaded. Every property of the view keeps the
+     * value that is read first, including the values of the config sources that can change. The properties
+     * are pinned one by one when they are first read: two properties read at different times can reflect
+     * different states of a config source that can change.
+     *
+     * @return a view of the current state of this config
+     */
+    public SmallRyeConfig snapshot() {
+        return new SmallRyeConfig(converters, snapshot.pin());
+    }
+
+    /**
+     * Reloads this config from its config sources.
+     *
+     * A new state of the config is built (taking a new snapshot of the system properties if the static
+     * sources are indexed, with an empty value cache) and published with an atomic compare-and-set. Readers
+     * are never blocked: reads that started before the reload complete with the previous state. When reloads
+     * run concurrently, each of them is built again from the state published by the others.
+     *
+     * @throws IllegalStateException if this config is a view returned by {@link #snapshot()}
+     */
+    public void reload() {
+        reload(null);
+    }
+
+    /**
+     * Reloads this config with new config sources.
+     *
+     * @param configSources the config sources of this config, they are sorted by ordinal
+     * @throws IllegalStateException if this config is a view returned by {@link #snapshot()}
+     * @see #reload()
+     */
+    public void reload(List<ConfigSource> configSources) {
+        List<ConfigSource> sortedSources = null;
+        if (configSources != null) {
+            sortedSources = new ArrayList<>(configSources);
+            sortedSources.sort(SmallRyeConfigBuilder.CONFIG_SOURCE_COMPARATOR);
+        }
+        ConfigSnapshot current;
+        ConfigSnapshot reloaded;
+        do {
+            current = snapshot;
+            if (current.isPinned()) {
+                throw new IllegalStateException("A snapshot of the config can not be reloaded");
             }
+            // the sources of the state that is replaced, not of a state replaced by a concurrent reload
+            reloaded = current.reload(sortedSources != null ? sortedSources : current.getConfigSources());
+        } while (!SNAPSHOT.compareAndSet(this, current, reloaded));
+        // after the new state is published: a reader that sees the new generation reads the new state
+        generation.incrementAndGet();
+    }
+
+    /**
+     * Invalidates the cached values of a property.
+     *
+     * This must be called when a config source reports a change of the property (including
+     * a property that was previously missing) and the config has been built with a value cache.
+     * Property handles resolve their value again.
+     *
+     * @param name the name of the property
+     */
+    public void invalidate(String name) {
+        ConfigValueCache valueCache = snapshot.getValueCache();
+        if (valueCache != null) {
+            valueCache.invalidate(name);
+        }
+        generation.incrementAndGet();
+    }
+
+    /**
+     * Invalidates the cached values of all the properties.
+     *
+     * This must be called when config sources report changes that are not tied to
+     * specific properties and the config has been built with a value cache.
+     * Property handles resolve their value again.
+     */
+    public void invalidateAll() {
+        ConfigValueCache valueCache = snapshot.getValueCache();
+        if (valueCache != null) {
+            valueCache.invalidateAll();
+        }
+        generation.incrementAndGet();
+    }
+
+    /**
+     * Returns the number of changes of this config, to be read before the values of the current state.
+     */
+    int getGeneration() {
+        return generation.get();
+    }
+
+    ConfigSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    private String getRequiredRawValue(String name) {
+        String value = snapshot.getRawValue(name);
+        if (value == null) {
+            throw new NoSuchElementException("Property " + name + " not found");
         }
-        return Optional.empty();
+        return value;
+    }
+
+    /**
+     * Returns the value of the property as seen by {@link #getOptionalValue(String, Class)}, or {@code null}.
+     */
+    private String getOptionalRawValue(String name) {
+        ConfigSnapshot snapshot = this.snapshot;
+        String value = snapshot.getRawValue(name);
+        // treat empty value as null
+        return value == null || value.length() > 0 ? value : snapshot.getNonEmptyRawValue(name);
+    }
+
+    private static boolean isCacheable(String value, Type type) {
+        // empty values are not seen by getOptionalValue() and arrays are mutable
+        return value.length() > 0 && !(type instanceof Class && ((Class<?>) type).isArray());
     }
 
     @Override
     public Iterable<String> getPropertyNames() {
-        Set<String> names = new HashSet<>();
-        for (ConfigSource configSource : configSources) {
-            names.addAll(configSource.getProperties().keySet());
+        return snapshot.getPropertyNames();
+    }
+
+    /**
+     * Returns the names of the properties that start with the prefix.
+     *
+     * The names of the config sources that can not change are kept in a sorted index so that the cost
+     * of the query depends on the number of matching names. The names of the other config sources are filtered.
+     *
+     * @param prefix the prefix of the names
+     * @return the sorted names of the properties that start with the prefix
+     */
+    public NavigableSet<String> getPropertyNames(String prefix) {
+        ConfigSnapshot snapshot = this.snapshot;
+        NavigableSet<String> staticNames = snapshot.getStaticPropertyNames();
+        String end = StringUtil.nextPrefix(prefix);
+        NavigableSet<String> names = end == null ? staticNames.tailSet(prefix, true) : staticNames.subSet(prefix, true, end, false);
+        if (snapshot.getDynamicSources().isEmpty()) {
+            return names;
+        }
+        TreeSet<String> allNames = new TreeSet<>(names);
+        for (ConfigSource configSource : snapshot.getDynamicSources()) {
+            for (String name : configSource.getPropertyNames()) {
+                if (name.startsWith(prefix)) {
+                    allNames.add(name);
+                }
+            }
         }
-        return names;
+        return Collections.unmodifiableNavigableSet(allNames);
+    }
+
+    /**
+     * Returns a view of the properties whose names start with the prefix followed by a dot.
+     *
+     * @param prefix the prefix of the properties, without the trailing dot
+     * @return a view of the properties, with names relative to the prefix
+     */
+    public ConfigView view(String prefix) {
+        return new ConfigView(this, prefix.isEmpty() || prefix.endsWith(".") ? prefix : prefix + ".");
     }
 
     @Override
     public Iterable<ConfigSource> getConfigSources() {
-        return configSources;
+        return snapshot.getConfigSources();
     }
 
     public <T> T convert(String value, Class<T> asType) {
         if (value != null) {
             boolean isArray = asType.isArray();
             if (isArray) {
-                String[] split = StringUtil.split(value);
                 Class<?> componentType = asType.getComponentType();
-                T array =  (T)newInstance(componentType, split.length);
-                Converter<T> converter = getConverter(asType);
-                for (int i = 0 ; i < split.length ; i++) {
-                    T s = converter.convert(split[i]);
-                    Array.set(array, i, s);
-                }
-                return array;
+                return (T) Converters.convertArray(value, componentType, getConverter(componentType));
             } else {
                 Converter<T> converter = getConverter(asType);
                 return converter.convert(value);
@@ -105,22 +574,160 @@ public class SmallRyeConfig implements Config, Serializable {
         return null;
     }
 
+    /**
+     * Converts the value, or returns an empty {@code Optional} if it can not be converted.
+     *
+     * The built-in integer, long and boolean converters check the value without throwing an exception,
+     * so that validating many values does not pay for the exceptions of the invalid ones.
+     *
+     * @param value the value to convert, can be {@code null}
+     * @param asType the type to convert to
+     * @return the converted value, or an empty {@code Optional} if the value is {@code null} or invalid
+     * @throws IllegalArgumentException if there is no converter for the type
+     */
+    public <T> Optional<T> tryConvert(String value, Class<T> asType) {
+        if (value == null) {
+            return Optional.empty();
+        }
+        Converter<T> converter = resolveConverter(asType);
+        return Optional.ofNullable(Converters.tryConvert(value, 0, value.length(), converter));
+    }
+
+    /**
+     * Converts the comma-separated elements of the value to an immutable list.
+     *
+     * @param value the value to convert, can be {@code null}
+     * @param itemType the type of the elements
+     * @return the list of the converted elements, empty if the value is {@code null}
+     */
+    public <T> List<T> convertList(String value, Class<T> itemType) {
+        return Converters.convertList(value, resolveConverter(itemType));
+    }
+
+    /**
+     * Converts the comma-separated elements of the value to an immutable set that keeps their order.
+     *
+     * @param value the value to convert, can be {@code null}
+     * @param itemType the type of the elements
+     * @return the set of the converted elements, empty if the value is {@code null}
+     */
+    public <T> Set<T> convertSet(String value, Class<T> itemType) {
+        return Converters.convertSet(value, resolveConverter(itemType));
+    }
+
+    /**
+     * Converts the value to a type that can be generic, such as {@code List<Integer>}.
+     *
+     * @param value the value to convert, can be {@code null}
+     * @param type the type to convert to
+     * @return the converted value or {@code null} if the value is {@code null}
+     * @see #resolveConverter(Type)
+     */
+    public <T> T convert(String value, Type type) {
+        if (value != null) {
+            Converter<T> converter = resolveConverter(type);
+            return converter.convert(value);
+        }
+        return null;
+    }
+
+    /**
+     * Returns the converter of a type that can be generic.
+     *
+     * {@code List<T>}, {@code Set<T>} and {@code Optional<T>} are converted by composing the converter of
+     * {@code T}, arrays by composing the converter of their component type. Composed converters are built
+     * once per config and not serialized, unless a converter was registered for the exact type.
+     * Other parameterized types are converted with the converter of their raw type.
+     *
+     * @param type the type to convert to
+     * @return the converter of the type
+     * @throws IllegalArgumentException if there is no converter for the type
+     */
+    public <T> Converter<T> resolveConverter(Type type) {
+        if (type instanceof Class && !((Class<?>) type).isArray()) {
+            return getConverter((Class<?>) type);
+        }
+        Converter converter = converters.get(type);
+        if (converter != null) {
+            return converter;
+        }
+        ConcurrentMap<Type, Converter> composed = getComposedConverters();
+        converter = composed.get(type);
+        if (converter == null) {
+            // not computeIfAbsent: composing the converter resolves the converters of the type arguments
+            converter = newComposedConverter(type);
+            Converter existing = composed.putIfAbsent(type, converter);
+            if (existing != null) {
+                converter = existing;
+            }
+        }
+        return converter;
+    }
+
+    private ConcurrentMap<Type, Converter> getComposedConverters() {
+        ConcurrentMap<Type, Converter> composed = composedConverters;
+        if (composed == null) {
+            synchronized (this) {
+                composed = composedConverters;
+                if (composed == null) {
+                    // built again after deserialization
+                    composedConverters = composed = new ConcurrentHashMap<>();
+                }
+            }
+        }
+        return composed;
+    }
+
+    private Converter newComposedConverter(Type type) {
+        if (type instanceof Class) {
+            Class<?> componentType = ((Class<?>) type).getComponentType();
+            return Converters.newArrayConverter(componentType, resolveConverter(componentType));
+        } else if (type instanceof ParameterizedType) {
+            ParameterizedType parameterizedType = (ParameterizedType) type;
+            Type rawType = parameterizedType.getRawType();
+            Type[] typeArguments = parameterizedType.getActualTypeArguments();
+            if (rawType == List.class) {
+                return Converters.newListConverter(resolveConverter(typeArguments[0]));
+            } else if (rawType == Set.class) {
+                return Converters.newSetConverter(resolveConverter(typeArguments[0]));
+            } else if (rawType == Optional.class) {
+                return Converters.newOptionalConverter(resolveConverter(typeArguments[0]));
+            } else {
+                return resolveConverter(rawType);
+            }
+        }
+        throw new IllegalArgumentException("No Converter registered for type " + type);
+    }
+
     protected <T> Converter getConverter(Class<T> asType) {
         if (asType.isArray()) {
             return getConverter(asType.getComponentType());
         } else {
             Converter converter = converters.get(asType);
             if (converter == null) {
-                // look for implicit converters
-                synchronized (converters) {
-                    converter = ImplicitConverters.getConverter(asType);
-                    converters.putIfAbsent(asType, converter);
-                }
+                // look for implicit converters, only once per type even if it has none
+                converter = converters.computeIfAbsent(asType, type -> {
+                    Converter implicitConverter = ImplicitConverters.getConverter(asType);
+                    return implicitConverter != null ? implicitConverter : NoConverter.INSTANCE;
+                });
             }
-            if (converter == null) {
+            if (converter == NoConverter.INSTANCE) {
                 throw new IllegalArgumentException("No Converter registered for class " + asType);
             }
             return converter;
         }
     }
+
+    /**
+     * Marker of the types that have no converter.
+     * This is an enum so that the marker stays a singleton when the config is deserialized.
+     */
+    private enum NoConverter implements Converter<Object> {
+        INSTANCE;
+
+        @Override
+        public Object convert(String value) {
+            throw new UnsupportedOperationException();
+        }
+    }
 }
@@ -16,16 +16,27 @@
 
 package io.smallrye.config;
 
+import java.io.IOException;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.net.URL;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import javax.annotation.Priority;
 
@@ -34,14 +45,46 @@ import org.eclipse.microprofile.config.spi.ConfigBuilder;
 import org.eclipse.microprofile.config.spi.ConfigSource;
 import org.eclipse.microprofile.config.spi.ConfigSourceProvider;
 import org.eclipse.microprofile.config.spi.Converter;
+import org.jboss.logging.Logger;
 
 /**
  * @author <a href="http://jmesnil.net/">Jeff Mesnil</a> (c) 2017 Red Hat inc.
  */
 public class SmallRyeConfigBuilder implements ConfigBuilder {
 
-    private static final String META_INF_MICROPROFILE_CONFIG_PROPERTIES = "META-INF/microprofile-config.properties";
-    private static final String WEB_INF_MICROPROFILE_CONFIG_PROPERTIES = "WEB-INF/classes/META-INF/microprofile-config.properties";
+    private static final Logger LOG = Logger.getLogger("io.smallrye.config");
+
+    static final String META_INF_MICROPROFILE_CONFIG_PROPERTIES = "META-INF/microprofile-config.properties";
+    static final String WEB_INF_MICROPROFILE_CONFIG_PROPERTIES = "WEB-INF/classes/META-INF/microprofile-config.properties";
+
+    static final Comparator<ConfigSource> CONFIG_SOURCE_COMPARATOR = new Comparator<ConfigSource>() {
+        @Override
+        public int compare(ConfigSource o1, ConfigSource o2) {
+            int v1 = o1.getOrdinal();
+            int v2 = o2.getOrdinal();
+            if ( v1 > v2 ) {
+                return -11;
+            }
+            if ( v1 < v2 ) {
+                return +1;
+            }
+            // if 2 config sources have the same ordinal,
+            // provide consistent order by sorting them
+            // according to their name.
+            if (o2.getName() != null && o1.getName() != null) {
+                return o2.getName().compareTo(o1.getName());
+            }
+            return 0;
+        }
+    };
+
+    // the type and the priority of each converter class, resolved once per class
+    private static final ClassValue<ConverterMetadata> CONVERTER_METADATA = new ClassValue<ConverterMetadata>() {
+        @Override
+        protected ConverterMetadata computeValue(Class<?> type) {
+            return new ConverterMetadata(findConverterType(type), findPriority(type));
+        }
+    };
 
     // sources are not sorted by their ordinals
     private List<ConfigSource> sources = new ArrayList<>();
@@ -50,6 +93,19 @@ public class SmallRyeConfigBuilder implements ConfigBuilder {
     private boolean addDefaultSources = false;
     private boolean addDiscoveredSources = false;
     private boolean addDiscoveredConverters = false;
+    private boolean cacheValues = false;
+    private boolean indexStaticSources = false;
+    private int parallelism = 1;
+    private boolean lazySourceLoading = false;
+    private int compactSize = Integer.MAX_VALUE;
+    private Path snapshotFile;
+    // snapshot read from the snapshot file or recorded to write it, while the config is built
+    private BuildSnapshot loadedSnapshot;
+    private BuildSnapshot recordedSnapshot;
+    private boolean buildReport = false;
+    // records the build while the config is built
+    private BuildReport.Recorder recorder;
+    private BuildReport report;
 
     public SmallRyeConfigBuilder() {
     }
@@ -66,48 +122,275 @@ public class SmallRyeConfigBuilder implements ConfigBuilder {
         return this;
     }
 
-    private List<ConfigSource> discoverSources() {
-        List<ConfigSource> discoveredSources = new ArrayList<>();
-        ServiceLoader<ConfigSource> configSourceLoader = ServiceLoader.load(ConfigSource.class, classLoader);
-        configSourceLoader.forEach(configSource -> {
-            discoveredSources.add(configSource);
-        });
+    /**
+     * Cache the converted values of the properties in the built config.
+     *
+     * The config sources are then read once per property and type until the cached values are
+     * invalidated with {@link SmallRyeConfig#invalidate(String)} or {@link SmallRyeConfig#invalidateAll()}.
+     * The properties that are not found in any config source are cached too and are not looked up again
+     * until they are invalidated, up to {@value ConfigValueCache#MAX_MISSING_PROPERTIES} of them so that looking up
+     * arbitrary names does not make the cache grow without bound.
+     *
+     * If the config is created by a {@link ConfigFactory} service, the option is passed to
+     * {@link ConfigFactory#newConfig(List, Map, boolean, boolean)} and is ignored, with a warning, by the factories
+     * that do not implement it.
+     *
+     * @return this builder
+     */
+    public SmallRyeConfigBuilder withValueCache() {
+        cacheValues = true;
+        return this;
+    }
+
+    /**
+     * Merge the static config sources of the built config in a single index.
+     *
+     * The properties of the {@link PropertiesConfigSource}, {@link DirConfigSource} and {@link EnvConfigSource}
+     * and a snapshot of the system properties taken when the config is built are indexed by name
+     * with their winning value. The other config sources are still queried on every lookup.
+     *
+     * Like {@link #withValueCache()}, the option is passed to the {@link ConfigFactory} service if there is one.
+     *
+     * @return this builder
+     */
+    public SmallRyeConfigBuilder withStaticSourcesIndex() {
+        indexStaticSources = true;
+        return this;
+    }
+
+    private void discoverSources(List<SourceTask> tasks) {
+        // services are instantiated in the calling thread, ServiceLoader is not thread-safe
+        tasks.add(new SourceTask(call(new SourceTask("ConfigSource services", () -> {
+            List<ConfigSource> discoveredSources = new ArrayList<>();
+            Iterable<ConfigSource> configSourceLoader = loadServices(ConfigSource.class);
+            configSourceLoader.forEach(configSource -> {
+                discoveredSources.add(configSource);
+            });
+            return discoveredSources;
+        }))));
 
         // load all ConfigSources from ConfigSourceProviders
-        ServiceLoader<ConfigSourceProvider> configSourceProviderLoader = ServiceLoader.load(ConfigSourceProvider.class, classLoader);
+        Iterable<ConfigSourceProvider> configSourceProviderLoader = loadServices(ConfigSourceProvider.class);
         configSourceProviderLoader.forEach(configSourceProvider -> {
-            configSourceProvider.getConfigSources(classLoader)
-                    .forEach(configSource -> {
-                        discoveredSources.add(configSource);
-                    });
+            tasks.add(new SourceTask(configSourceProvider.getClass().getName(), () -> {
+                List<ConfigSource> providedSources = new ArrayList<>();
+                configSourceProvider.getConfigSources(classLoader).forEach(providedSources::add);
+                return providedSources;
+            }));
         });
-        return discoveredSources;
+    }
+
+    /**
+     * Load the discovered and default config sources concurrently.
+     *
+     * Every {@code microprofile-config.properties} file and every {@link ConfigSourceProvider} is loaded by a separate
+     * task on a pool of at most {@code parallelism} threads that only lives while the config is built.
+     * The config sources are still sorted by ordinal and name, the built config does not depend on the order
+     * in which the tasks complete.
+     *
+     * @param parallelism the maximum number of config sources loaded at the same time
+     * @return this builder
+     */
+    public SmallRyeConfigBuilder withParallelSourceLoading(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+        }
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * Defer the parsing of the default {@code microprofile-config.properties} files until a property is first read,
+     * see {@link LazyPropertiesConfigSource}.
+     *
+     * @return this builder
+     */
+    public SmallRyeConfigBuilder withLazySourceLoading() {
+        lazySourceLoading = true;
+        return this;
+    }
+
+    /**
+     * Store the properties of the default {@code microprofile-config.properties} files that have at least
+     * {@code minSize} properties in compact arrays instead of a {@link java.util.HashMap}.
+     *
+     * This reduces the memory retained by large files, at the cost of creating the strings of a property
+     * every time it is read. It is best combined with {@link #withValueCache()} or {@link #withStaticSourcesIndex()}.
+     *
+     * @param minSize the minimum number of properties of a compacted file
+     * @return this builder
+     */
+    public SmallRyeConfigBuilder withCompactSources(int minSize) {
+        if (minSize < 0) {
+            throw new IllegalArgumentException("minSize must not be negative: " + minSize);
+        }
+        compactSize = minSize;
+        return this;
+    }
+
+    /**
+     * Snapshot the content of the {@code microprofile-config.properties} files and the discovered services
+     * in a file, to build the next configs from the file instead of scanning the class path.
+     *
+     * The snapshot is written when the config is built if the file does not exist or if it was built from other
+     * resources or with other options. The environment variables, the system properties and the config sources
+     * provided by the discovered services are still read every time.
+     *
+     * @param file the snapshot file
+     * @return this builder
+     */
+    public SmallRyeConfigBuilder withSnapshotFile(Path file) {
+        snapshotFile = file;
+        return this;
+    }
+
+    /**
+     * Record the time spent and the memory allocated by each phase of {@link #build()} and by the loading of each
+     * config source. The report of the last build is returned by {@link #getBuildReport()} and logged at debug level.
+     *
+     * Counting the allocations loads the JVM management beans on the first build.
+     *
+     * @return this builder
+     */
+    public SmallRyeConfigBuilder withBuildReport() {
+        buildReport = true;
+        return this;
+    }
+
+    /**
+     * @return the report of the last config built by this builder or {@code null} if it was built without a report
+     * @see #withBuildReport()
+     */
+    public BuildReport getBuildReport() {
+        return report;
     }
 
     private List<Converter> discoverConverters() {
         List<Converter> converters = new ArrayList<>();
-        ServiceLoader<Converter> converterLoader = ServiceLoader.load(Converter.class, classLoader);
+        Iterable<Converter> converterLoader = loadServices(Converter.class);
         converterLoader.forEach(converter -> {
             converters.add(converter);
         });
         return converters;
     }
 
+    /**
+     * Loads the implementations of the service from the {@link ServiceIndex} of the class loader if it lists them,
+     * with the {@link ServiceLoader} otherwise.
+     */
+    private <S> Iterable<S> loadServices(Class<S> service) {
+        if (loadedSnapshot != null) {
+            List<S> services = loadedSnapshot.loadServices(service, classLoader);
+            if (services != null) {
+                return services;
+            }
+        }
+        ServiceIndex serviceIndex = ClassLoaderCache.of(classLoader).getServiceIndex(classLoader);
+        List<S> services = serviceIndex != null ? serviceIndex.load(service, classLoader) : null;
+        if (recordedSnapshot == null) {
+            return services != null ? services : ServiceLoader.load(service, classLoader);
+        }
+        if (services == null) {
+            services = new ArrayList<>();
+            ServiceLoader.load(service, classLoader).forEach(services::add);
+        }
+        recordedSnapshot.putServices(service, services);
+        return services;
+    }
+
     @Override
     public ConfigBuilder addDefaultSources() {
         addDefaultSources = true;
         return this;
     }
 
-    private List<ConfigSource> getDefaultSources() {
-        List<ConfigSource> defaultSources = new ArrayList<>();
+    private void getDefaultSources(List<SourceTask> tasks) {
+        tasks.add(new SourceTask("EnvConfigSource, SysPropConfigSource", () -> Arrays.asList(new EnvConfigSource(), new SysPropConfigSource())));
+        if (loadedSnapshot != null) {
+            BuildSnapshot snapshot = loadedSnapshot;
+            tasks.add(new SourceTask(snapshotFile.toString(), () -> snapshot.getPropertiesSources(compactSize)));
+            return;
+        }
+        BuildSnapshot snapshot = recordedSnapshot;
+        for (String propertyFileName : new String[] { META_INF_MICROPROFILE_CONFIG_PROPERTIES, WEB_INF_MICROPROFILE_CONFIG_PROPERTIES }) {
+            Enumeration<URL> propertyFileUrls;
+            try {
+                propertyFileUrls = classLoader.getResources(propertyFileName);
+            } catch (IOException ioe) {
+                throw new IllegalStateException("problem while loading microprofile-config.properties files", ioe);
+            }
+            while (propertyFileUrls.hasMoreElements()) {
+                URL propertyFileUrl = propertyFileUrls.nextElement();
+                int position = snapshot != null ? snapshot.reservePropertiesSource() : -1;
+                tasks.add(new SourceTask(propertyFileUrl.toString(), () -> {
+                    ConfigSource configSource = lazySourceLoading
+                            ? new LazyPropertiesConfigSource(propertyFileUrl, compactSize)
+                            : new PropertiesConfigSource(propertyFileUrl, compactSize);
+                    if (snapshot != null) {
+                        snapshot.setPropertiesSource(position, propertyFileUrl, configSource);
+                    }
+                    return Collections.singletonList(configSource);
+                }));
+            }
+        }
+    }
 
-        defaultSources.add(new EnvConfigSource());
-        defaultSources.add(new SysPropConfigSource());
-        defaultSources.addAll(new PropertiesConfigSourceProvider(META_INF_MICROPROFILE_CONFIG_PROPERTIES, true, classLoader).getConfigSources(classLoader));
-        defaultSources.addAll(new PropertiesConfigSourceProvider(WEB_INF_MICROPROFILE_CONFIG_PROPERTIES, true, classLoader).getConfigSources(classLoader));
+    /**
+     * Runs the tasks that load the config sources and returns their sources in the order of the tasks,
+     * whatever the order in which they complete.
+     */
+    private List<ConfigSource> loadSources(List<SourceTask> tasks) {
+        List<ConfigSource> loadedSources = new ArrayList<>();
+        if (parallelism <= 1 || tasks.size() <= 1) {
+            for (SourceTask task : tasks) {
+                loadedSources.addAll(call(task));
+            }
+            return loadedSources;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, tasks.size()), runnable -> {
+            Thread thread = new Thread(runnable, "smallrye-config-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<List<ConfigSource>>> futures = new ArrayList<>();
+            for (SourceTask task : tasks) {
+                futures.add(executor.submit(() -> call(task)));
+            }
+            for (Future<List<ConfigSource>> future : futures) {
+                loadedSources.addAll(future.get());
+            }
+            return loadedSources;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while loading config sources", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 
-        return defaultSources;
+    private List<ConfigSource> call(SourceTask task) {
+        if (task.loadedSources != null) {
+            return task.loadedSources;
+        }
+        try {
+            return recorder == null ? task.loader.call() : recorder.recordSource(task.name, task.loader);
+        } catch (IOException ioe) {
+            throw new IllegalStateException("problem while loading microprofile-config.properties files", ioe);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
     }
 
     @Override
@@ -152,29 +435,69 @@ public class SmallRyeConfigBuilder implements ConfigBuilder {
     }
 
     private Type getConverterType(Class clazz) {
+        return CONVERTER_METADATA.get(clazz).type;
+    }
+
+    private static Type findConverterType(Class clazz) {
         if (clazz.equals(Object.class)) {
             return null;
         }
 
         for (Type type : clazz.getGenericInterfaces()) {
             if (type instanceof ParameterizedType) {
-                ParameterizedType pt = (ParameterizedType) type;
-                if (pt.getRawType().equals(Converter.class)) {
-                    Type[] typeArguments = pt.getActualTypeArguments();
-                    if (typeArguments.length != 1) {
-                        throw new IllegalStateException("Converter " + clazz + " must be parameterized with a single type");
-                    }
-                    return typeArguments[0];
+                Type converterType = findConverterType(clazz, (ParameterizedType) type);
+                if (converterType != null) {
+                    return converterType;
                 }
             }
         }
 
-        return getConverterType(clazz.getSuperclass());
+        return findConverterType(clazz.getSuperclass());
+    }
+
+    /**
+     * Returns the type argument of {@link Converter} in a parameterized interface, resolved through the interfaces
+     * that extend {@code Converter} such as {@link CharSequenceConverter}, or {@code null} if it is not a converter.
+     */
+    private static Type findConverterType(Class clazz, ParameterizedType type) {
+        Class<?> rawType = (Class<?>) type.getRawType();
+        Type[] typeArguments = type.getActualTypeArguments();
+        if (rawType.equals(Converter.class)) {
+            if (typeArguments.length != 1) {
+                throw new IllegalStateException("Converter " + clazz + " must be parameterized with a single type");
+            }
+            return typeArguments[0];
+        }
+        if (!Converter.class.isAssignableFrom(rawType)) {
+            return null;
+        }
+        for (Type superType : rawType.getGenericInterfaces()) {
+            if (superType instanceof ParameterizedType) {
+                Type converterType = findConverterType(clazz, (ParameterizedType) superType);
+                if (converterType instanceof TypeVariable) {
+                    // e.g. the T of CharSequenceConverter<T> extends Converter<T>
+                    TypeVariable<?>[] typeParameters = rawType.getTypeParameters();
+                    for (int i = 0; i < typeParameters.length; i++) {
+                        if (typeParameters[i].equals(converterType)) {
+                            return typeArguments[i];
+                        }
+                    }
+                }
+                if (converterType != null) {
+                    return converterType;
+                }
+            }
+        }
+        return null;
     }
 
     private int getPriority(Converter<?> converter) {
+        return CONVERTER_METADATA.get(converter.getClass()).priority;
+    }
+
+    private static int findPriority(Class<?> clazz) {
         int priority = 100;
-        Priority priorityAnnotation = converter.getClass().getAnnotation(Priority.class);
+        Priority priorityAnnotation = clazz.getAnnotation(Priority.class);
         if (priorityAnnotation != null) {
             priority = priorityAnnotation.value();
         }
@@ -183,58 +506,137 @@ public class SmallRyeConfigBuilder implements ConfigBuilder {
 
     @Override
     public Config build() {
+        recorder = buildReport ? new BuildReport.Recorder() : null;
+        report = null;
+        if (snapshotFile != null) {
+            openSnapshot();
+            endPhase("readSnapshot");
+        }
+        try {
+            Config config = doBuild();
+            if (recordedSnapshot != null) {
+                recordedSnapshot.write(snapshotFile);
+                endPhase("writeSnapshot");
+            }
+            if (recorder != null) {
+                report = recorder.report();
+                LOG.debug(report);
+            }
+            return config;
+        } finally {
+            loadedSnapshot = null;
+            recordedSnapshot = null;
+            recorder = null;
+        }
+    }
+
+    private void endPhase(String name) {
+        if (recorder != null) {
+            recorder.endPhase(name);
+        }
+    }
+
+    private void openSnapshot() {
+        int options = (addDefaultSources ? BuildSnapshot.DEFAULT_SOURCES : 0)
+                | (addDiscoveredSources ? BuildSnapshot.DISCOVERED_SOURCES : 0)
+                | (addDiscoveredConverters ? BuildSnapshot.DISCOVERED_CONVERTERS : 0);
+        List<String> fingerprint;
+        try {
+            fingerprint = BuildSnapshot.fingerprint(classLoader);
+        } catch (IOException ioe) {
+            throw new IllegalStateException("problem while loading microprofile-config.properties files", ioe);
+        }
+        loadedSnapshot = BuildSnapshot.read(snapshotFile, options, fingerprint);
+        if (loadedSnapshot == null) {
+            recordedSnapshot = new BuildSnapshot(options, fingerprint);
+        }
+    }
+
+    private Config doBuild() {
+        List<SourceTask> tasks = new ArrayList<>();
         if (addDiscoveredSources) {
-            sources.addAll(discoverSources());
+            discoverSources(tasks);
+            endPhase("discoverSources");
         }
         if (addDefaultSources) {
-            sources.addAll(getDefaultSources());
+            getDefaultSources(tasks);
+            endPhase("findDefaultSources");
         }
+        sources.addAll(loadSources(tasks));
+        endPhase("loadSources");
 
         if (addDiscoveredConverters) {
-            for(Converter converter : discoverConverters()) {
+            List<Converter> discoveredConverters = discoverConverters();
+            endPhase("discoverConverters");
+            for(Converter converter : discoveredConverters) {
                 Type type = getConverterType(converter.getClass());
                 if (type == null) {
                     throw new IllegalStateException("Can not add converter " + converter + " that is not parameterized with a type");
                 }
                 addConverter(type, getPriority(converter), converter);
             }
+            endPhase("getConverterType");
         }
 
-        Collections.sort(sources, new Comparator<ConfigSource>() {
-            @Override
-            public int compare(ConfigSource o1, ConfigSource o2) {
-                int v1 = o1.getOrdinal();
-                int v2 = o2.getOrdinal();
-                if ( v1 > v2 ) {
-                    return -11;
-                }
-                if ( v1 < v2 ) {
-                    return +1;
-                }
-                // if 2 config sources have the same ordinal,
-                // provide consistent order by sorting them
-                // according to their name.
-                if (o2.getName() != null && o1.getName() != null) {
-                    return o2.getName().compareTo(o1.getName());
-                }
-                return 0;
-            }
-        });
+        Collections.sort(sources, CONFIG_SOURCE_COMPARATOR);
+        endPhase("sortSources");
 
         Map<Type, Converter> configConverters = new HashMap<>();
         converters.forEach((type, converterWithPriority) -> configConverters.put(type, converterWithPriority.converter));
-        return newConfig(sources, configConverters);
+        Config config = newConfig(sources, configConverters);
+        endPhase("newConfig");
+        return config;
     }
 
     protected Config newConfig(List<ConfigSource> sources, Map<Type, Converter> configConverters) {
-        ServiceLoader<ConfigFactory> factoryLoader = ServiceLoader.load(ConfigFactory.class, this.classLoader);
-        Iterator<ConfigFactory> iter = factoryLoader.iterator();
-        if ( !iter.hasNext() ) {
-            return new SmallRyeConfig(sources, configConverters);
+        ConfigFactory factory = newConfigFactory();
+        if (factory == null) {
+            return new SmallRyeConfig(sources, configConverters, cacheValues, indexStaticSources);
         }
 
-        ConfigFactory factory = iter.next();
-        return factory.newConfig(sources, configConverters);
+        return factory.newConfig(sources, configConverters, cacheValues, indexStaticSources);
+    }
+
+    private ConfigFactory newConfigFactory() {
+        // a recorded snapshot lists the factory that is found
+        if (recordedSnapshot != null) {
+            return findConfigFactory();
+        }
+        return ClassLoaderCache.of(classLoader).newConfigFactory(this::findConfigFactory);
+    }
+
+    private ConfigFactory findConfigFactory() {
+        Iterator<ConfigFactory> factories = loadServices(ConfigFactory.class).iterator();
+        return factories.hasNext() ? factories.next() : null;
+    }
+
+    private static class ConverterMetadata {
+        private final Type type;
+        private final int priority;
+
+        private ConverterMetadata(Type type, int priority) {
+            this.type = type;
+            this.priority = priority;
+        }
+    }
+
+    private static class SourceTask {
+        private final String name;
+        private final Callable<List<ConfigSource>> loader;
+        // the sources already loaded, and recorded, in the calling thread
+        private final List<ConfigSource> loadedSources;
+
+        private SourceTask(String name, Callable<List<ConfigSource>> loader) {
+            this.name = name;
+            this.loader = loader;
+            this.loadedSources = null;
+        }
+
+        private SourceTask(List<ConfigSource> loadedSources) {
+            this.name = null;
+            this.loader = null;
+            this.loadedSources = loadedSources;
+        }
     }
 
     private static class ConverterWithPriority {
@@ -0,0 +1,272 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.config;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+
+/**
+ * Index of the properties of the static config sources, merged by ordinal.
+ *
+ * The static config sources are the sources whose content can not change once they are created
+ * ({@link PropertiesConfigSource}, {@link LazyPropertiesConfigSource}, {@link DirConfigSource} and {@link EnvConfigSource}) and
+ * the {@link SysPropConfigSource} whose properties are snapshotted when the index is built.
+ * The index keeps the winning value of every property of these sources so that a lookup is a single hash probe.
+ *
+ * Indexing the lazy config sources loads them when the index is built.
+ *
+ * Any other config source is dynamic and is still queried on every lookup, before the static winner
+ * if the dynamic source has a higher ordinal.
+ */
+class StaticSourcesIndex implements Serializable {
+
+    private final Map<String, Entry> entries;
+    // environment variables if the EnvConfigSource is indexed, they are also matched by their normalized names
+    private final Map<String, String> env;
+    private final int envPosition;
+    private final ConfigSource[] dynamicSources;
+    private final int[] dynamicPositions;
+
+    StaticSourcesIndex(List<ConfigSource> configSources) {
+        List<ConfigSource> staticSources = new ArrayList<>();
+        List<Integer> staticPositions = new ArrayList<>();
+        List<ConfigSource> dynamicSources = new ArrayList<>();
+        List<Integer> dynamicPositions = new ArrayList<>();
+        Map<String, String> env = null;
+        int envPosition = -1;
+        for (int i = 0; i < configSources.size(); i++) {
+            ConfigSource configSource = configSources.get(i);
+            if (isStatic(configSource)) {
+                if (configSource instanceof SysPropConfigSource) {
+                    configSource = snapshot(configSource);
+                } else if (configSource instanceof EnvConfigSource && env == null) {
+                    // copied as the System.getenv() map is not serializable
+                    env = new HashMap<>(configSource.getProperties());
+                    envPosition = i;
+                }
+                staticSources.add(configSource);
+                staticPositions.add(i);
+            } else {
+                dynamicSources.add(configSource);
+                dynamicPositions.add(i);
+            }
+        }
+
+        Set<String> names = new LinkedHashSet<>();
+        for (ConfigSource configSource : staticSources) {
+            names.addAll(configSource.getProperties().keySet());
+        }
+        Map<String, Entry> entries = new HashMap<>(names.size() * 4 / 3 + 1);
+        for (String name : names) {
+            Entry entry = null;
+            for (int i = 0; i < staticSources.size(); i++) {
+                // use getValue() as some sources (e.g. EnvConfigSource) also match names that are not in their properties
+                String value = staticSources.get(i).getValue(name);
+                if (value == null) {
+                    continue;
+                }
+                if (entry == null) {
+                    entry = new Entry(value, staticPositions.get(i));
+                }
+                if (value.length() > 0) {
+                    entry.nonEmptyValue = value;
+                    entry.nonEmptyPosition = staticPositions.get(i);
+                    break;
+                }
+            }
+            if (entry != null) {
+                entries.put(name, entry);
+            }
+        }
+
+        this.entries = entries;
+        this.env = env;
+        this.envPosition = envPosition;
+        this.dynamicSources = dynamicSources.toArray(new ConfigSource[0]);
+        this.dynamicPositions = new int[dynamicPositions.size()];
+        for (int i = 0; i < this.dynamicPositions.length; i++) {
+            this.dynamicPositions[i] = dynamicPositions.get(i);
+        }
+    }
+
+    /**
+     * Returns the first value of the property that is not {@code null}, as if all the config sources were queried in order.
+     */
+    String getValue(String name) {
+        Entry entry = getEntry(name);
+        int position = entry == null ? Integer.MAX_VALUE : entry.position;
+        for (int i = 0; i < dynamicSources.length && dynamicPositions[i] < position; i++) {
+            String value = dynamicSources[i].getValue(name);
+            if (value != null) {
+                return value;
+            }
+        }
+        return entry == null ? null : entry.value;
+    }
+
+    /**
+     * Returns the names of the properties of the static sources.
+     */
+    Set<String> getPropertyNames() {
+        return entries.keySet();
+    }
+
+    /**
+     * Returns the value of the property if it is supplied by a static source that has a higher ordinal
+     * than all the dynamic sources. Such a value can not change once the index is built.
+     */
+    String getStableValue(String name) {
+        Entry entry = getEntry(name);
+        return entry != null && entry.position < getFirstDynamicPosition() ? entry.value : null;
+    }
+
+    /**
+     * Returns the position of the first dynamic source in the config sources or {@link Integer#MAX_VALUE} if there is none.
+     */
+    int getFirstDynamicPosition() {
+        return dynamicPositions.length == 0 ? Integer.MAX_VALUE : dynamicPositions[0];
+    }
+
+    /**
+     * Returns the first value of the property that is neither {@code null} nor empty, as if all the config sources were queried in order.
+     */
+    String getNonEmptyValue(String name) {
+        Entry entry = getEntry(name);
+        int position = entry == null || entry.nonEmptyValue == null ? Integer.MAX_VALUE : entry.nonEmptyPosition;
+        for (int i = 0; i < dynamicSources.length && dynamicPositions[i] < position; i++) {
+            String value = dynamicSources[i].getValue(name);
+            if (value != null && value.length() > 0) {
+                return value;
+            }
+        }
+        return entry == null ? null : entry.nonEmptyValue;
+    }
+
+    /**
+     * Adds the first value of each property that is neither {@code null} nor empty to {@code values}.
+     * Each dynamic source is queried once with the properties whose static value has a lower ordinal.
+     */
+    void getNonEmptyValues(Collection<String> names, Map<String, String> values) {
+        Map<String, Entry> staticEntries = new HashMap<>();
+        for (String name : names) {
+            Entry entry = getEntry(name);
+            if (entry != null && entry.nonEmptyValue != null) {
+                staticEntries.put(name, entry);
+            }
+        }
+        Set<String> remaining = new LinkedHashSet<>(names);
+        for (int i = 0; i < dynamicSources.length && !remaining.isEmpty(); i++) {
+            int position = dynamicPositions[i];
+            List<String> candidates = new ArrayList<>(remaining.size());
+            for (Iterator<String> iterator = remaining.iterator(); iterator.hasNext(); ) {
+                String name = iterator.next();
+                Entry entry = staticEntries.get(name);
+                if (entry != null && entry.nonEmptyPosition < position) {
+                    // the static value wins over this dynamic source and the next ones
+                    values.put(name, entry.nonEmptyValue);
+                    iterator.remove();
+                } else {
+                    candidates.add(name);
+                }
+            }
+            if (!candidates.isEmpty()) {
+                ConfigSnapshot.readNonEmptyValues(dynamicSources[i], candidates, values);
+                remaining.removeIf(values::containsKey);
+            }
+        }
+        for (String name : remaining) {
+            Entry entry = staticEntries.get(name);
+            if (entry != null) {
+                values.put(name, entry.nonEmptyValue);
+            }
+        }
+    }
+
+    private Entry getEntry(String name) {
+        Entry entry = entries.get(name);
+        if (entry != null || env == null || name == null) {
+            return entry;
+        }
+        // the index contains every name of the static sources, only the normalized names
+        // of the environment variables can still match
+        String normalizedName = EnvConfigSource.replaceNonAlphanumericByUnderscores(name);
+        String value = normalizedName == name ? null : env.get(normalizedName);
+        if (value == null) {
+            String upperCaseName = normalizedName.toUpperCase();
+            value = upperCaseName.equals(name) ? null : env.get(upperCaseName);
+        }
+        if (value == null) {
+            return null;
+        }
+        entry = new Entry(value, envPosition);
+        if (value.length() > 0) {
+            entry.nonEmptyValue = value;
+            entry.nonEmptyPosition = envPosition;
+        }
+        return entry;
+    }
+
+    static boolean isStatic(ConfigSource configSource) {
+        return isImmutable(configSource) || configSource.getClass() == SysPropConfigSource.class;
+    }
+
+    /**
+     * Whether the content of the config source can not change once it is created.
+     */
+    static boolean isImmutable(ConfigSource configSource) {
+        Class<?> type = configSource.getClass();
+        return type == PropertiesConfigSource.class
+                || type == LazyPropertiesConfigSource.class
+                || type == DirConfigSource.class
+                || type == EnvConfigSource.class;
+    }
+
+    private static ConfigSource snapshot(ConfigSource configSource) {
+        Properties systemProperties = System.getProperties();
+        Map<String, String> properties = new HashMap<>();
+        for (String name : systemProperties.stringPropertyNames()) {
+            String value = systemProperties.getProperty(name);
+            if (value != null) {
+                properties.put(name, value);
+            }
+        }
+        return new PropertiesConfigSource(Collections.unmodifiableMap(properties), configSource.getName(), configSource.getOrdinal());
+    }
+
+    private static class Entry implements Serializable {
+        private final String value;
+        private final int position;
+        private String nonEmptyValue;
+        private int nonEmptyPosition;
+
+        private Entry(String value, int position) {
+            this.value = value;
+            this.position = position;
+        }
+    }
+}
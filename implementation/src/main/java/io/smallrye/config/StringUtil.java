@@ -16,22 +16,181 @@
 
 package io.smallrye.config;
 
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
 /**
  * @author <a href="http://jmesnil.net/">Jeff Mesnil</a> (c) 2017 Red Hat inc.
  */
 public class StringUtil {
 
-    // delimiter is a comma that is not preceded by a \
-    private static final String DELIMITER = "(?<!\\\\),";
+    private static final String[] NO_STRINGS = new String[0];
 
+    /**
+     * Splits the text around the commas that are not escaped by a {@code \} and unescapes the commas of each element.
+     *
+     * Same as {@code text.split("(?<!\\\\),")} followed by a {@code replace("\\,", ",")} on each element,
+     * without the regular expression: trailing empty elements are removed.
+     */
     public static String[] split(String text) {
         if (text == null) {
-            return new String[0];
+            return NO_STRINGS;
+        }
+        Segments segments = new Segments(text);
+        int count = segments.count();
+        if (count == 0) {
+            return NO_STRINGS;
         }
-        String[] split = text.split(DELIMITER);
-        for (int i = 0 ;i < split.length ; i++) {
-            split[i] = split[i].replace("\\,", ",");
+        String[] split = new String[count];
+        for (int i = 0; i < count; i++) {
+            split[i] = segments.next();
         }
         return split;
     }
+
+    /**
+     * Returns an iterator over the elements of the text, with the same semantics as {@link #split(String)}.
+     * The elements are computed one at a time without splitting the whole text.
+     */
+    public static Iterator<String> segments(CharSequence text) {
+        return text == null ? Collections.<String>emptyIterator() : new Segments(text);
+    }
+
+    private static boolean isDelimiter(CharSequence text, int index) {
+        return text.charAt(index) == ',' && (index == 0 || text.charAt(index - 1) != '\\');
+    }
+
+    /**
+     * Iterator over the elements of a text that also exposes the bounds of the current element in the text,
+     * so that it can be read without creating a string when it has no escaped comma.
+     */
+    static class Segments implements Iterator<String> {
+
+        private final CharSequence text;
+        // end of the text without its trailing delimiters, like String#split does
+        private final int limit;
+        private int position;
+        // bounds of the current element
+        private int start;
+        private int end;
+        private boolean escaped;
+
+        Segments(CharSequence text) {
+            this.text = text;
+            int limit = text.length();
+            while (limit > 0 && isDelimiter(text, limit - 1)) {
+                limit--;
+            }
+            this.limit = limit;
+            // a text made only of delimiters has no element, an empty text has an empty one
+            this.position = limit == 0 && text.length() > 0 ? 1 : 0;
+        }
+
+        /**
+         * Returns the number of elements, without moving to the next one.
+         */
+        int count() {
+            if (position > limit) {
+                return 0;
+            }
+            int count = 1;
+            for (int i = position; i < limit; i++) {
+                if (isDelimiter(text, i)) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        /**
+         * Moves to the next element.
+         *
+         * @return {@code false} if there is no more element
+         */
+        boolean advance() {
+            if (position > limit) {
+                return false;
+            }
+            start = position;
+            escaped = false;
+            int i = start;
+            for (; i < limit; i++) {
+                if (text.charAt(i) == ',') {
+                    if (isDelimiter(text, i)) {
+                        break;
+                    }
+                    escaped = true;
+                }
+            }
+            end = i;
+            position = i + 1;
+            return true;
+        }
+
+        CharSequence getText() {
+            return text;
+        }
+
+        int getStart() {
+            return start;
+        }
+
+        int getLength() {
+            return end - start;
+        }
+
+        /**
+         * @return {@code true} if the current element has escaped commas and must be read with {@link #current()}
+         */
+        boolean isEscaped() {
+            return escaped;
+        }
+
+        /**
+         * Returns the current element with its commas unescaped.
+         */
+        String current() {
+            if (!escaped) {
+                return text.subSequence(start, end).toString();
+            }
+            StringBuilder unescaped = new StringBuilder(end - start);
+            for (int i = start; i < end; i++) {
+                char c = text.charAt(i);
+                if (c == ',') {
+                    // replace the escaped comma by a comma
+                    unescaped.setLength(unescaped.length() - 1);
+                }
+                unescaped.append(c);
+            }
+            return unescaped.toString();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return position <= limit;
+        }
+
+        @Override
+        public String next() {
+            if (!advance()) {
+                throw new NoSuchElementException();
+            }
+            return current();
+        }
+    }
+
+    /**
+     * Returns the smallest string that is greater than all the strings that start with the prefix,
+     * or {@code null} if there is none (for an empty prefix or a prefix made of {@link Character#MAX_VALUE}).
+     */
+    static String nextPrefix(String prefix) {
+        for (int i = prefix.length() - 1; i >= 0; i--) {
+            char c = prefix.charAt(i);
+            if (c != Character.MAX_VALUE) {
+                return prefix.substring(0, i) + (char) (c + 1);
+            }
+        }
+        return null;
+    }
 }
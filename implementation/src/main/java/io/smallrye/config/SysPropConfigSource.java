@@ -19,6 +19,7 @@ package io.smallrye.config;
 import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.microprofile.config.spi.ConfigSource;
 
@@ -36,6 +37,11 @@ class SysPropConfigSource implements ConfigSource, Serializable {
         return map;
     }
 
+    @Override
+    public Set<String> getPropertyNames() {
+        return System.getProperties().stringPropertyNames();
+    }
+
     @Override
     public int getOrdinal() {
         return 400;
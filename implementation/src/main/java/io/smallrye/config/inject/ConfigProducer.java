@@ -20,10 +20,13 @@ import static io.smallrye.config.SecuritySupport.getContextClassLoader;
 
 import java.io.Serializable;
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -33,7 +36,6 @@ import javax.enterprise.context.Dependent;
 import javax.enterprise.inject.Produces;
 import javax.enterprise.inject.spi.InjectionPoint;
 
-import io.smallrye.config.StringUtil;
 import io.smallrye.config.SmallRyeConfig;
 import org.eclipse.microprofile.config.Config;
 import org.eclipse.microprofile.config.ConfigProvider;
@@ -94,82 +96,54 @@ public class ConfigProducer implements Serializable{
     @Produces @ConfigProperty
     <T> Optional<T> produceOptionalConfigValue(InjectionPoint injectionPoint) {
         Type type = injectionPoint.getAnnotated().getBaseType();
-        final Class<T> valueType;
+        final Type valueType;
         if (type instanceof ParameterizedType) {
             ParameterizedType parameterizedType = (ParameterizedType) type;
 
             Type[] typeArguments = parameterizedType.getActualTypeArguments();
-            valueType = unwrapType(typeArguments[0]);
+            valueType = typeArguments[0];
         } else {
-            valueType = (Class<T>) String.class;
+            valueType = String.class;
         }
         return Optional.ofNullable(getValue(injectionPoint, valueType));
     }
 
+    // the injected collections are mutable copies, the values of the config may be cached and shared
     @Dependent
     @Produces @ConfigProperty
     <T> Set<T> producesSetConfigPropery(InjectionPoint ip) {
         Type type = ip.getAnnotated().getBaseType();
-        final Class<T> valueType;
         if (type instanceof ParameterizedType) {
-            ParameterizedType parameterizedType = (ParameterizedType) type;
-
-            Type[] typeArguments = parameterizedType.getActualTypeArguments();
-            valueType = unwrapType(typeArguments[0]);
-        } else {
-            valueType = (Class<T>) String.class;
-        }
-        HashSet<T> s = new HashSet<>();
-        String stringValue = getValue(ip, String.class);
-        String[] split = StringUtil.split(stringValue);
-        Config config = getConfig(ip);
-        for(int i = 0 ; i < split.length ; i++) {
-            T item = ((SmallRyeConfig) config).convert(split[i], valueType);
-            s.add(item);
+            // the converter of the parameterized type is composed once and cached by the config
+            Set<T> value = getValue(ip, type);
+            return value != null ? new LinkedHashSet<>(value) : new HashSet<>();
         }
-        return s;
+        String[] value = getValue(ip, String[].class);
+        return value != null ? new LinkedHashSet<>((List<T>) Arrays.asList(value)) : new HashSet<>();
     }
 
     @Dependent
     @Produces @ConfigProperty
     <T> List<T> producesListConfigPropery(InjectionPoint ip) {
         Type type = ip.getAnnotated().getBaseType();
-        final Class<T> valueType;
-        if (type instanceof ParameterizedType) {
-            ParameterizedType parameterizedType = (ParameterizedType) type;
-
-            Type[] typeArguments = parameterizedType.getActualTypeArguments();
-            valueType = unwrapType(typeArguments[0]);
-        } else {
-            valueType = (Class<T>) String.class;
-        }
-        ArrayList<T> s = new ArrayList<>();
-        String stringValue = getValue(ip, String.class);
-        String[] split = StringUtil.split(stringValue);
-        Config config = getConfig(ip);
-        for(int i = 0 ; i < split.length ; i++) {
-            T item = ((SmallRyeConfig) config).convert(split[i], valueType);
-            s.add(item);
-        }
-        return s;
-    }
-
-    private <T> Class<T> unwrapType(Type type) {
         if (type instanceof ParameterizedType) {
-            type = ((ParameterizedType) type).getRawType();
+            // the converter of the parameterized type is composed once and cached by the config
+            List<T> value = getValue(ip, type);
+            return value != null ? new ArrayList<>(value) : new ArrayList<>();
         }
-        return (Class<T>) type;
+        String[] value = getValue(ip, String[].class);
+        return value != null ? new ArrayList<>((List<T>) Arrays.asList(value)) : new ArrayList<>();
     }
 
     private <T> T getValue
-            (InjectionPoint injectionPoint, Class<T> target) {
+            (InjectionPoint injectionPoint, Type target) {
         Config config = getConfig(injectionPoint);
         String name = getName(injectionPoint);
         try {
             if (name == null) {
                 return null;
             }
-            Optional<T> optionalValue = config.getOptionalValue(name, target);
+            Optional<T> optionalValue = getOptionalValue(config, name, target);
             if (optionalValue.isPresent()) {
                 return optionalValue.get();
             } else {
@@ -185,6 +159,29 @@ public class ConfigProducer implements Serializable{
         }
     }
 
+    private static <T> Optional<T> getOptionalValue(Config config, String name, Type target) {
+        if (config instanceof SmallRyeConfig) {
+            return ((SmallRyeConfig) config).getOptionalValue(name, target);
+        }
+        if (target instanceof Class) {
+            return config.getOptionalValue(name, (Class<T>) target);
+        }
+        // other configs only convert classes, a List<T> or a Set<T> is read as an array of T
+        if (target instanceof ParameterizedType) {
+            ParameterizedType parameterizedType = (ParameterizedType) target;
+            Type rawType = parameterizedType.getRawType();
+            Type itemType = parameterizedType.getActualTypeArguments()[0];
+            if ((rawType == List.class || rawType == Set.class) && itemType instanceof Class) {
+                Class<?> arrayType = Array.newInstance((Class<?>) itemType, 0).getClass();
+                return config.getOptionalValue(name, arrayType).map(array -> {
+                    List<?> items = Arrays.asList((Object[]) array);
+                    return (T) (rawType == List.class ? items : new LinkedHashSet<>(items));
+                });
+            }
+        }
+        throw new IllegalArgumentException("No converter for " + target + " in " + config);
+    }
+
     private String getName(InjectionPoint injectionPoint) {
         for (Annotation qualifier : injectionPoint.getQualifiers()) {
             if (qualifier.annotationType().equals(ConfigProperty.class)) {
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.smallrye.config;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class ArrayAndCollectionConversionTestCase {
+
+    private final SmallRyeConfig config = (SmallRyeConfig) new SmallRyeConfigBuilder().build();
+
+    @Test
+    public void testPrimitiveArrays() {
+        assertArrayEquals(new int[] { 1, 2, 3 }, config.convert("1,2,3", int[].class));
+        assertArrayEquals(new long[] { 1L, 20000000000L }, config.convert("1,20000000000", long[].class));
+        assertArrayEquals(new double[] { 1.5, -2 }, config.convert("1.5,-2", double[].class), 0);
+        assertTrue(Arrays.equals(new boolean[] { true, false, true }, config.convert("yes,no,on", boolean[].class)));
+        assertArrayEquals(new float[] { 1.5f }, config.convert("1.5", float[].class), 0);
+        assertEquals(0, config.convert(",", int[].class).length);
+    }
+
+    @Test
+    public void testObjectArrays() {
+        assertArrayEquals(new Integer[] { 1, 2 }, config.convert("1,2", Integer[].class));
+        assertArrayEquals(new String[] { "a,b", "c" }, config.convert("a\\,b,c", String[].class));
+        assertArrayEquals(new Duration[] { Duration.ofSeconds(1) }, config.convert("PT1S", Duration[].class));
+    }
+
+    @Test
+    public void testInvalidElement() {
+        try {
+            config.convert("1,two", int[].class);
+            fail();
+        } catch (IllegalArgumentException e) {
+        }
+    }
+
+    @Test
+    public void testList() {
+        assertEquals(asList(3, 1, 3), config.convertList("3,1,3", Integer.class));
+        assertEquals(Collections.singletonList("a,b"), config.convertList("a\\,b", String.class));
+        assertEquals(Collections.emptyList(), config.convertList(null, String.class));
+        List<int[]> arrays = config.convertList("1,2", int[].class);
+        assertArrayEquals(new int[] { 1 }, arrays.get(0));
+        try {
+            config.convertList("1,2", Integer.class).add(3);
+            fail();
+        } catch (UnsupportedOperationException e) {
+        }
+    }
+
+    @Test
+    public void testSet() {
+        Set<Integer> set = config.convertSet("3,1,3,2", Integer.class);
+        assertEquals(asList(3, 1, 2), new ArrayList<>(set));
+        assertEquals(Collections.singleton("a"), config.convertSet("a", String.class));
+        assertEquals(Collections.emptySet(), config.convertSet(null, String.class));
+        try {
+            set.add(4);
+            fail();
+        } catch (UnsupportedOperationException e) {
+        }
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.config;
+
+import static io.smallrye.config.ConfigTestSupport.newClassLoader;
+import static io.smallrye.config.ConfigTestSupport.write;
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.eclipse.microprofile.config.spi.ConfigSourceProvider;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class BuildReportTestCase {
+
+    private static final long SLEEP_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testBuildReport() throws Exception {
+        File classes = folder.newFolder("classes");
+        File properties = write(new File(classes, SmallRyeConfigBuilder.META_INF_MICROPROFILE_CONFIG_PROPERTIES), "my.prop=value\n");
+
+        try (URLClassLoader loader = newClassLoader(classes)) {
+            SmallRyeConfigBuilder builder = new SmallRyeConfigBuilder();
+            builder.withBuildReport()
+                    .forClassLoader(loader)
+                    .addDefaultSources()
+                    .addDiscoveredConverters()
+                    .build();
+            BuildReport report = builder.getBuildReport();
+
+            List<String> phases = new ArrayList<>();
+            long phasesNanos = 0;
+            for (BuildReport.Entry phase : report.getPhases()) {
+                phases.add(phase.getName());
+                phasesNanos += phase.getNanos();
+                assertTrue(phase.getNanos() >= 0);
+            }
+            assertEquals(asList("findDefaultSources", "loadSources", "discoverConverters", "getConverterType", "sortSources", "newConfig"), phases);
+            assertTrue(phasesNanos <= report.getTotal().getNanos());
+            // -1 if the JVM does not count the allocations
+            assertTrue(report.getTotal().getAllocatedBytes() != 0);
+
+            List<String> sources = new ArrayList<>();
+            for (BuildReport.Entry source : report.getSources()) {
+                sources.add(source.getName());
+            }
+            assertEquals(asList("EnvConfigSource, SysPropConfigSource", properties.toURI().toURL().toString()), sources);
+            assertTrue(report.toString().contains(properties.toURI().toURL().toString()));
+        }
+    }
+
+    @Test
+    public void testNoBuildReport() {
+        SmallRyeConfigBuilder builder = new SmallRyeConfigBuilder();
+        builder.build();
+        assertNull(builder.getBuildReport());
+    }
+
+    @Test
+    public void testSourcesAreRecordedInThePhaseThatLoadsThem() throws Exception {
+        File classes = folder.newFolder("classes");
+        write(classes, "META-INF/services/" + ConfigSource.class.getName(), SlowConfigSource.class.getName());
+        write(classes, "META-INF/services/" + ConfigSourceProvider.class.getName(), SlowConfigSourceProvider.class.getName());
+
+        try (URLClassLoader loader = newClassLoader(classes)) {
+            SmallRyeConfigBuilder builder = new SmallRyeConfigBuilder();
+            builder.withBuildReport()
+                    .forClassLoader(loader)
+                    .addDiscoveredSources()
+                    .build();
+            BuildReport report = builder.getBuildReport();
+
+            Map<String, Long> phases = new HashMap<>();
+            for (BuildReport.Entry phase : report.getPhases()) {
+                phases.put(phase.getName(), phase.getNanos());
+            }
+            Map<String, Long> sources = new HashMap<>();
+            for (BuildReport.Entry source : report.getSources()) {
+                sources.put(source.getName(), source.getNanos());
+            }
+            // the services are instantiated while they are discovered
+            assertTrue(sources.get("ConfigSource services") >= SLEEP_NANOS);
+            assertTrue(phases.get("discoverSources") >= SLEEP_NANOS);
+            // the providers are only called to load their sources
+            assertTrue(sources.get(SlowConfigSourceProvider.class.getName()) >= SLEEP_NANOS);
+            assertTrue(phases.get("loadSources") >= SLEEP_NANOS);
+            assertTrue(phases.get("discoverSources") + phases.get("loadSources") <= report.getTotal().getNanos());
+        }
+    }
+
+    private static void sleep() {
+        try {
+            TimeUnit.NANOSECONDS.sleep(SLEEP_NANOS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static class SlowConfigSource implements ConfigSource {
+
+        public SlowConfigSource() {
+            sleep();
+        }
+
+        @Override
+        public Map<String, String> getProperties() {
+            return Collections.singletonMap("slow.prop", "source");
+        }
+
+        @Override
+        public String getValue(String propertyName) {
+            return getProperties().get(propertyName);
+        }
+
+        @Override
+        public String getName() {
+            return "SlowConfigSource";
+        }
+    }
+
+    public static class SlowConfigSourceProvider implements ConfigSourceProvider {
+
+        @Override
+        public Iterable<ConfigSource> getConfigSources(ClassLoader forClassLoader) {
+            sleep();
+            return Collections.emptyList();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.config;
+
+import static io.smallrye.config.ConfigTestSupport.names;
+import static io.smallrye.config.ConfigTestSupport.newClassLoader;
+import static io.smallrye.config.ConfigTestSupport.write;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class BuildSnapshotTestCase {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testConfigIsBuiltFromSnapshot() throws Exception {
+        File classes = folder.newFolder("classes");
+        Path properties = write(classes, "META-INF/microprofile-config.properties", "my.prop=aaa\nconfig_ordinal=200\n");
+        write(classes, "META-INF/services/" + ConfigSource.class.getName(), ServiceIndexTestCase.IndexedConfigSource.class.getName());
+        Path snapshotFile = folder.getRoot().toPath().resolve("snapshot/config.bin");
+
+        try (URLClassLoader loader = newClassLoader(classes)) {
+            SmallRyeConfig config = build(loader, snapshotFile);
+            assertTrue(Files.exists(snapshotFile));
+            assertEquals("aaa", config.getValue("my.prop", String.class));
+            assertEquals("indexed", config.getValue("indexed.prop", String.class));
+
+            // the content changes but not the fingerprint of the file, the snapshot is still used
+            long lastModified = properties.toFile().lastModified();
+            write(classes, "META-INF/microprofile-config.properties", "my.prop=bbb\nconfig_ordinal=200\n");
+            assertTrue(properties.toFile().setLastModified(lastModified));
+            config = build(loader, snapshotFile);
+            assertEquals("aaa", config.getValue("my.prop", String.class));
+            assertEquals("indexed", config.getValue("indexed.prop", String.class));
+            assertEquals(names(build(loader, null)), names(config));
+            for (ConfigSource configSource : config.getConfigSources()) {
+                if (configSource.getName().contains("microprofile-config.properties")) {
+                    assertEquals(200, configSource.getOrdinal());
+                }
+            }
+
+            // the snapshot is built again when the file changes
+            write(classes, "META-INF/microprofile-config.properties", "my.prop=cccc\n");
+            assertEquals("cccc", build(loader, snapshotFile).getValue("my.prop", String.class));
+            assertNotNull(BuildSnapshot.read(snapshotFile, options(), BuildSnapshot.fingerprint(loader)));
+        }
+    }
+
+    @Test
+    public void testSnapshotKeepsUnpairedSurrogates() throws Exception {
+        File classes = folder.newFolder("classes");
+        write(classes, "META-INF/microprofile-config.properties", "my.prop=a\\uD800b\\uDC00\n");
+        Path snapshotFile = folder.getRoot().toPath().resolve("config.bin");
+
+        try (URLClassLoader loader = newClassLoader(classes)) {
+            assertEquals("a\uD800b\uDC00", build(loader, snapshotFile).getValue("my.prop", String.class));
+            assertNotNull(BuildSnapshot.read(snapshotFile, options(), BuildSnapshot.fingerprint(loader)));
+            assertEquals("a\uD800b\uDC00", build(loader, snapshotFile).getValue("my.prop", String.class));
+        }
+    }
+
+    @Test
+    public void testInvalidSnapshot() throws Exception {
+        File classes = folder.newFolder("classes");
+        write(classes, "META-INF/microprofile-config.properties", "my.prop=aaa\n");
+        Path snapshotFile = folder.getRoot().toPath().resolve("config.bin");
+
+        try (URLClassLoader loader = newClassLoader(classes)) {
+            List<String> fingerprint = BuildSnapshot.fingerprint(loader);
+            assertNull(BuildSnapshot.read(snapshotFile, options(), fingerprint));
+            build(loader, snapshotFile);
+
+            // built with other options
+            assertNull(BuildSnapshot.read(snapshotFile, BuildSnapshot.DEFAULT_SOURCES, fingerprint));
+
+            // truncated
+            byte[] bytes = Files.readAllBytes(snapshotFile);
+            Files.write(snapshotFile, Arrays.copyOf(bytes, bytes.length - 3));
+            assertNull(BuildSnapshot.read(snapshotFile, options(), fingerprint));
+            assertEquals("aaa", build(loader, snapshotFile).getValue("my.prop", String.class));
+            assertEquals(bytes.length, Files.size(snapshotFile));
+        }
+    }
+
+    private static int options() {
+        return BuildSnapshot.DEFAULT_SOURCES | BuildSnapshot.DISCOVERED_SOURCES;
+    }
+
+    private static SmallRyeConfig build(ClassLoader loader, Path snapshotFile) {
+        SmallRyeConfigBuilder builder = new SmallRyeConfigBuilder();
+        if (snapshotFile != null) {
+            builder.withSnapshotFile(snapshotFile);
+        }
+        return ConfigTestSupport.build(builder.addDiscoveredSources(), loader);
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.config;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.smallrye.config.ValueCacheTestCase.MutableConfigSource;
+import org.junit.Test;
+
+public class BulkValuesTestCase {
+
+    @Test
+    public void testBulkValues() {
+        checkBulkValues(new SmallRyeConfigBuilder());
+    }
+
+    @Test
+    public void testBulkValuesWithStaticSourcesIndex() {
+        checkBulkValues(new SmallRyeConfigBuilder().withStaticSourcesIndex());
+    }
+
+    private void checkBulkValues(SmallRyeConfigBuilder builder) {
+        MutableBulkConfigSource high = new MutableBulkConfigSource(200);
+        high.properties.put("pool.min", "2");
+        high.properties.put("pool.name", "");
+        Map<String, String> properties = new HashMap<>();
+        properties.put("pool.min", "1");
+        properties.put("pool.max", "10");
+        properties.put("pool.name", "static");
+        MutableBulkConfigSource low = new MutableBulkConfigSource(50);
+        low.properties.put("pool.max", "20");
+        low.properties.put("pool.timeout", "30");
+
+        SmallRyeConfig config = (SmallRyeConfig) builder
+                .withSources(high, new PropertiesConfigSource(properties, "test", 100), low)
+                .build();
+
+        Map<String, Integer> values = config.getValues(asList("pool.min", "pool.max", "pool.timeout", "pool.missing"), Integer.class);
+        assertEquals(3, values.size());
+        assertEquals(Integer.valueOf(2), values.get("pool.min"));
+        assertEquals(Integer.valueOf(10), values.get("pool.max"));
+        assertEquals(Integer.valueOf(30), values.get("pool.timeout"));
+        assertFalse(values.containsKey("pool.missing"));
+        assertEquals(asList(asList("pool.min", "pool.max", "pool.timeout", "pool.missing"), asList("pool.timeout", "pool.missing")),
+                merge(high.batches, low.batches));
+
+        assertEquals("static", config.getValues(asList("pool.name")).get("pool.name"));
+    }
+
+    private static List<Collection<String>> merge(List<Collection<String>> first, List<Collection<String>> second) {
+        List<Collection<String>> batches = new ArrayList<>(first);
+        batches.addAll(second);
+        return batches;
+    }
+
+    static class MutableBulkConfigSource extends MutableConfigSource implements BulkConfigSource {
+
+        final List<Collection<String>> batches = new ArrayList<>();
+
+        MutableBulkConfigSource(int ordinal) {
+            super(ordinal);
+        }
+
+        @Override
+        public Map<String, String> getValues(Collection<String> propertyNames) {
+            batches.add(new ArrayList<>(propertyNames));
+            Map<String, String> values = new HashMap<>();
+            for (String name : propertyNames) {
+                if (properties.containsKey(name)) {
+                    values.put(name, properties.get(name));
+                }
+            }
+            return values;
+        }
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.smallrye.config;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+
+import org.eclipse.microprofile.config.spi.Converter;
+import org.junit.Test;
+
+public class CharSequenceConverterTestCase {
+
+    private static final String[] NUMBERS = { "0", "1", "-1", "+1", "-", "+", "", "12a", "a12", "2147483647", "2147483648",
+            "-2147483648", "-2147483649", "9223372036854775807", "9223372036854775808", "-9223372036854775808",
+            "-9223372036854775809", "007", "--1", "1.0", " 1", "١٢" };
+
+    @Test
+    public void testParseIntHasSameSemanticsAsInteger() {
+        for (String number : NUMBERS) {
+            String text = "[" + number + "]";
+            assertEquals(number, result(() -> Integer.parseInt(number)), result(() -> Converters.parseInt(text, 1, number.length())));
+        }
+    }
+
+    @Test
+    public void testParseLongHasSameSemanticsAsLong() {
+        for (String number : NUMBERS) {
+            String text = "[" + number + "]";
+            assertEquals(number, result(() -> Long.parseLong(number)), result(() -> Converters.parseLong(text, 1, number.length())));
+        }
+    }
+
+    @Test
+    public void testParseBoolean() {
+        for (String value : new String[] { "true", "TRUE", "1", "yes", "Y", "on", "Ja", "j", "si", "oui" }) {
+            assertTrue(value, Converters.parseBoolean("," + value + ",", 1, value.length()));
+        }
+        for (String value : new String[] { "false", "", "0", "no", "tru", "truee", "o" }) {
+            assertFalse(value, Converters.parseBoolean("," + value + ",", 1, value.length()));
+        }
+    }
+
+    @Test
+    public void testParseBooleanHasSameSemanticsAsEqualsIgnoreCase() {
+        char[] chars = { 't', 'R', 'u', 'E', 'y', 'e', 's', 'O', 'n', 'j', 'a', 'I', '1', '0', '\u0131', '\u017f', '\u212a', 'x' };
+        Random random = new Random(42);
+        for (int i = 0; i < 100000; i++) {
+            StringBuilder value = new StringBuilder();
+            int length = random.nextInt(6);
+            for (int j = 0; j < length; j++) {
+                value.append(chars[random.nextInt(chars.length)]);
+            }
+            String text = value.toString();
+            assertEquals(text, legacyParseBoolean(text), Converters.parseBoolean(text));
+        }
+        assertTrue(Converters.parseBoolean("ou\u0131"));
+        assertTrue(Converters.parseBoolean("\u017fi"));
+    }
+
+    @Test
+    public void testTryConvert() {
+        SmallRyeConfig config = (SmallRyeConfig) new SmallRyeConfigBuilder().build();
+        assertEquals(Optional.of(12), config.tryConvert("12", Integer.class));
+        assertEquals(Optional.empty(), config.tryConvert("2147483648", Integer.class));
+        assertEquals(Optional.of(2147483648L), config.tryConvert("2147483648", Long.class));
+        assertEquals(Optional.empty(), config.tryConvert("12a", Long.class));
+        assertEquals(Optional.of(false), config.tryConvert("nope", Boolean.class));
+        assertEquals(Optional.of(1.5), config.tryConvert("1.5", Double.class));
+        assertEquals(Optional.empty(), config.tryConvert("one", Double.class));
+        assertEquals(Optional.empty(), config.tryConvert("1,a", int[].class));
+        assertEquals(Optional.empty(), config.tryConvert(null, Integer.class));
+        for (String number : NUMBERS) {
+            Object expectedInt = result(() -> Integer.parseInt(number));
+            Object expectedLong = result(() -> Long.parseLong(number));
+            assertEquals(number, expectedInt instanceof Integer ? Optional.of(expectedInt) : Optional.empty(), config.tryConvert(number, Integer.class));
+            assertEquals(number, expectedLong instanceof Long ? Optional.of(expectedLong) : Optional.empty(), config.tryConvert(number, Long.class));
+        }
+        assertEquals(Double.valueOf(2.5), Converters.tryConvert("1.5,2.5", 4, 3, Converters.DOUBLE_CONVERTER));
+        assertEquals(Float.valueOf(1.5f), Converters.tryConvert("1.5,2.5", 0, 3, Converters.FLOAT_CONVERTER));
+    }
+
+    private static boolean legacyParseBoolean(String value) {
+        return "TRUE".equalsIgnoreCase(value)
+                || "1".equalsIgnoreCase(value)
+                || "YES".equalsIgnoreCase(value)
+                || "Y".equalsIgnoreCase(value)
+                || "ON".equalsIgnoreCase(value)
+                || "JA".equalsIgnoreCase(value)
+                || "J".equalsIgnoreCase(value)
+                || "SI".equalsIgnoreCase(value)
+                || "OUI".equalsIgnoreCase(value);
+    }
+
+    @Test
+    public void testElementsArePassedAsRegions() {
+        List<String> regions = new ArrayList<>();
+        CharSequenceConverter<String> converter = (value, offset, length) -> {
+            regions.add(value + "@" + offset + ":" + length);
+            return value.subSequence(offset, offset + length).toString();
+        };
+        assertEquals(asList("ab", "c,d", "e"), Converters.convertList("ab,c\\,d,e", converter));
+        assertEquals(asList("ab,c\\,d,e@0:2", "c,d@0:3", "ab,c\\,d,e@8:1"), regions);
+    }
+
+    @Test
+    public void testBuiltInConvertersAcceptRegions() {
+        assertEquals(Integer.valueOf(42), convert(Converters.INTEGER_CONVERTER, "x42x"));
+        assertEquals(Long.valueOf(-42), convert(Converters.LONG_CONVERTER, "x-42x"));
+        assertEquals(Double.valueOf(4.5), convert(Converters.DOUBLE_CONVERTER, "x4.5x"));
+        assertEquals(Boolean.TRUE, convert(Converters.BOOLEAN_CONVERTER, "xyesx"));
+        assertEquals(null, Converters.INTEGER_CONVERTER.convert(null));
+    }
+
+    private static <T> T convert(Converter<T> converter, String text) {
+        return ((CharSequenceConverter<T>) converter).convert(text, 1, text.length() - 2);
+    }
+
+    @Test
+    public void testUserCharSequenceConverter() {
+        Map<String, String> properties = new HashMap<>();
+        properties.put("my.amounts", "12,34\\,5");
+        AmountConverter converter = new AmountConverter();
+        SmallRyeConfig config = (SmallRyeConfig) new SmallRyeConfigBuilder()
+                .withConverters(new Converter[] { converter })
+                .withSources(new PropertiesConfigSource(properties, "test", 100))
+                .build();
+
+        List<Amount> amounts = config.convertList(config.getValue("my.amounts", String.class), Amount.class);
+        assertEquals(2, amounts.size());
+        assertEquals("12", amounts.get(0).value);
+        assertEquals("34,5", amounts.get(1).value);
+        // the element with an escaped comma is passed as a string
+        assertEquals(1, converter.regions);
+    }
+
+    static class Amount {
+        final String value;
+
+        Amount(String value) {
+            this.value = value;
+        }
+    }
+
+    static class AmountConverter implements CharSequenceConverter<Amount> {
+        int regions;
+
+        @Override
+        public Amount convert(CharSequence value, int offset, int length) {
+            regions++;
+            return new Amount(value.subSequence(offset, offset + length).toString());
+        }
+
+        @Override
+        public Amount convert(String value) {
+            return new Amount(value);
+        }
+    }
+
+    private static Object result(Parser parser) {
+        try {
+            return parser.parse();
+        } catch (NumberFormatException e) {
+            return e.getMessage();
+        }
+    }
+
+    private interface Parser {
+        Object parse();
+    }
+}
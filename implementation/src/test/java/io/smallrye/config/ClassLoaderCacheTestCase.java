@@ -0,0 +1,153 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.config;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Type;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.smallrye.config.ValueCacheTestCase.MutableConfigSource;
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.eclipse.microprofile.config.spi.Converter;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ClassLoaderCacheTestCase {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testConfigFactoryIsLookedUpOnce() throws Exception {
+        File classes = folder.newFolder();
+        Path services = classes.toPath().resolve("META-INF/services/" + ConfigFactory.class.getName());
+        Files.createDirectories(services.getParent());
+        Files.write(services, CountingConfigFactory.class.getName().getBytes(StandardCharsets.UTF_8));
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[] { classes.toURI().toURL() }, getClass().getClassLoader())) {
+            int instances = CountingConfigFactory.INSTANCES.get();
+            new SmallRyeConfigBuilder().forClassLoader(loader).build();
+            assertEquals(instances + 1, CountingConfigFactory.INSTANCES.get());
+
+            // the service file is not read again but every config has its own factory
+            Files.delete(services);
+            new SmallRyeConfigBuilder().forClassLoader(loader).build();
+            assertEquals(instances + 2, CountingConfigFactory.INSTANCES.get());
+        }
+    }
+
+    @Test
+    public void testOptionsArePassedToConfigFactory() throws Exception {
+        File classes = folder.newFolder();
+        Path services = classes.toPath().resolve("META-INF/services/" + ConfigFactory.class.getName());
+        Files.createDirectories(services.getParent());
+        Files.write(services, OptionsConfigFactory.class.getName().getBytes(StandardCharsets.UTF_8));
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[] { classes.toURI().toURL() }, getClass().getClassLoader())) {
+            MutableConfigSource source = new MutableConfigSource();
+            source.properties.put("my.prop", "1");
+            SmallRyeConfig config = (SmallRyeConfig) new SmallRyeConfigBuilder()
+                    .withValueCache()
+                    .forClassLoader(loader)
+                    .withSources(source)
+                    .build();
+            assertTrue(OptionsConfigFactory.cacheValues);
+            assertFalse(OptionsConfigFactory.indexStaticSources);
+
+            assertEquals("1", config.getValue("my.prop", String.class));
+            source.properties.put("my.prop", "2");
+            assertEquals("1", config.getValue("my.prop", String.class));
+        }
+    }
+
+    @Test
+    public void testCacheDoesNotRetainClassLoader() throws Exception {
+        URLClassLoader loader = new URLClassLoader(new URL[] { folder.newFolder().toURI().toURL() }, null);
+        new SmallRyeConfigBuilder().forClassLoader(loader).build();
+        WeakReference<ClassLoader> reference = new WeakReference<>(loader);
+        loader.close();
+        loader = null;
+        for (int i = 0; i < 10 && reference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull(reference.get());
+    }
+
+    @Test
+    public void testConverterTypeOfSuperclass() {
+        SmallRyeConfig config = (SmallRyeConfig) new SmallRyeConfigBuilder()
+                .withConverters(new Converter[] { new SubclassConverter() })
+                .build();
+        assertTrue(config.getConverter(StringBuilder.class) instanceof SubclassConverter);
+    }
+
+    public static class CountingConfigFactory implements ConfigFactory {
+        static final AtomicInteger INSTANCES = new AtomicInteger();
+
+        public CountingConfigFactory() {
+            INSTANCES.incrementAndGet();
+        }
+
+        @Override
+        public Config newConfig(List<ConfigSource> sources, Map<Type, Converter> configConverters) {
+            return new SmallRyeConfig(sources, configConverters);
+        }
+    }
+
+    public static class OptionsConfigFactory implements ConfigFactory {
+        static volatile boolean cacheValues;
+        static volatile boolean indexStaticSources;
+
+        @Override
+        public Config newConfig(List<ConfigSource> sources, Map<Type, Converter> configConverters) {
+            return newConfig(sources, configConverters, false, false);
+        }
+
+        @Override
+        public Config newConfig(List<ConfigSource> sources, Map<Type, Converter> configConverters, boolean cacheValues, boolean indexStaticSources) {
+            OptionsConfigFactory.cacheValues = cacheValues;
+            OptionsConfigFactory.indexStaticSources = indexStaticSources;
+            return new SmallRyeConfig(sources, configConverters, cacheValues, indexStaticSources);
+        }
+    }
+
+    public abstract static class StringBuilderConverter implements Converter<StringBuilder> {
+    }
+
+    public static class SubclassConverter extends StringBuilderConverter {
+        @Override
+        public StringBuilder convert(String value) {
+            return new StringBuilder(value);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.config;
+
+import static io.smallrye.config.ConfigTestSupport.write;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class CompactPropertiesTestCase {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testSameContentAsHashMap() {
+        Random random = new Random(42);
+        for (boolean latin1 : new boolean[] { true, false }) {
+            Map<String, String> properties = new HashMap<>();
+            for (int i = 0; i < 5000; i++) {
+                properties.put(randomString(random, latin1), randomString(random, latin1));
+            }
+            // keys with the same hash code
+            properties.put("Aa", "first");
+            properties.put("BB", "second");
+            properties.put("", "empty key");
+
+            Map<String, String> compact = CompactProperties.compact(properties, 0);
+            assertTrue(compact instanceof CompactProperties);
+            assertEquals(properties, compact);
+            assertEquals(compact, properties);
+            assertEquals(properties.hashCode(), compact.hashCode());
+            assertEquals(properties.keySet(), compact.keySet());
+            assertEquals(new TreeMap<>(properties).toString(), new TreeMap<>(compact).toString());
+            for (String key : properties.keySet()) {
+                assertEquals(properties.get(key), compact.get(key));
+                assertTrue(compact.containsKey(key));
+            }
+            assertNull(compact.get("missing"));
+            assertNull(compact.get(42));
+            assertFalse(compact.containsKey(null));
+        }
+    }
+
+    @Test
+    public void testOnlyLargeMapsAreCompacted() {
+        Map<String, String> properties = new HashMap<>();
+        properties.put("my.prop", "1234");
+        assertSame(properties, CompactProperties.compact(properties, 2));
+        Map<String, String> compact = CompactProperties.compact(properties, 1);
+        assertEquals(properties, compact);
+        assertSame(compact, CompactProperties.compact(compact, 0));
+        assertEquals(new HashMap<>(), CompactProperties.compact(new HashMap<>(), 0));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testImmutable() {
+        Map<String, String> properties = new HashMap<>();
+        properties.put("my.prop", "1234");
+        CompactProperties.compact(properties, 0).put("my.prop", "5678");
+    }
+
+    @Test
+    public void testSerialization() throws Exception {
+        File file = write(folder.newFile(), "my.prop=1234\nmy.other.prop=é\n");
+        PropertiesConfigSource configSource = new PropertiesConfigSource(file.toURI().toURL(), 0);
+        assertTrue(configSource.getProperties().containsKey("my.other.prop"));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(configSource);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            ConfigSource deserialized = (ConfigSource) in.readObject();
+            assertEquals(configSource.getProperties(), deserialized.getProperties());
+            assertEquals("é", deserialized.getValue("my.other.prop"));
+        }
+    }
+
+    @Test
+    public void testCompactSources() throws Exception {
+        File dir = folder.newFolder();
+        write(new File(dir, SmallRyeConfigBuilder.META_INF_MICROPROFILE_CONFIG_PROPERTIES), "my.prop=1234\nmy.other.prop=5678\n");
+        try (URLClassLoader loader = new URLClassLoader(new URL[] { dir.toURI().toURL() }, null)) {
+            for (SmallRyeConfigBuilder builder : new SmallRyeConfigBuilder[] { new SmallRyeConfigBuilder(),
+                    new SmallRyeConfigBuilder().withLazySourceLoading() }) {
+                builder.withCompactSources(2).forClassLoader(loader).addDefaultSources();
+                SmallRyeConfig config = (SmallRyeConfig) builder.build();
+                assertEquals(Integer.valueOf(1234), config.getValue("my.prop", Integer.class));
+                assertEquals("5678", config.getValue("my.other.prop", String.class));
+            }
+        }
+
+        File configDir = folder.newFolder();
+        write(new File(configDir, "my.prop"), "1234");
+        write(new File(configDir, "config_ordinal"), "200");
+        ConfigSource configSource = new DirConfigSource(configDir, 100, 0);
+        assertEquals(200, configSource.getOrdinal());
+        assertEquals("1234", configSource.getValue("my.prop"));
+        assertEquals(2, configSource.getProperties().size());
+    }
+
+    private static String randomString(Random random, boolean latin1) {
+        char[] chars = new char[random.nextInt(20)];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = (char) (latin1 ? random.nextInt(0x100) : random.nextInt(0x3000));
+        }
+        return new String(chars);
+    }
+}
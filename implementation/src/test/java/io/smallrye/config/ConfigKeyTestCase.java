@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.config;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import io.smallrye.config.ValueCacheTestCase.MutableConfigSource;
+import org.junit.Test;
+
+public class ConfigKeyTestCase {
+
+    @Test
+    public void testStableValueIsNotLookedUpAgain() {
+        Map<String, String> properties = new HashMap<>();
+        properties.put("pool.size", "10");
+        MutableConfigSource low = new MutableConfigSource(50);
+        SmallRyeConfig config = (SmallRyeConfig) new SmallRyeConfigBuilder()
+                .withSources(new PropertiesConfigSource(properties, "test", 100), low)
+                .build();
+
+        ConfigKey<Integer> key = config.handle("pool.size", Integer.class);
+        Integer value = key.getValue();
+        assertEquals(Integer.valueOf(10), value);
+        assertSame(value, key.getValue());
+        assertEquals(0, low.lookups);
+    }
+
+    @Test
+    public void testDynamicValueIsLookedUpOnEveryRead() {
+        MutableConfigSource high = new MutableConfigSource(200);
+        Map<String, String> properties = new HashMap<>();
+        properties.put("pool.size", "10");
+        SmallRyeConfig config = (SmallRyeConfig) new SmallRyeConfigBuilder()
+                .withSources(high, new PropertiesConfigSource(properties, "test", 100))
+                .build();
+
+        ConfigKey<Integer> key = config.handle("pool.size", Integer.class);
+        assertEquals(Integer.valueOf(10), key.getValue());
+        high.properties.put("pool.size", "20");
+        assertEquals(Integer.valueOf(20), key.getValue());
+        assertEquals(Integer.valueOf(20), key.getOptionalValue().get());
+        high.properties.remove("pool.size");
+        assertEquals(Integer.valueOf(10), key.getValue());
+    }
+
+    @Test
+    public void testMissingValue() {
+        MutableConfigSource source = new MutableConfigSource();
+        SmallRyeConfig config = (SmallRyeConfig) new SmallRyeConfigBuilder()
+                .withSources(source)
+                .build();
+
+        ConfigKey<String> key = config.handle("my.prop", String.class);
+        assertFalse(key.getOptionalValue().isPresent());
+        try {
+            key.getValue();
+            fail();
+        } catch (NoSuchElementException e) {
+        }
+        source.properties.put("my.prop", "");
+        assertEquals("", key.getValue());
+        assertFalse(key.getOptionalValue().isPresent());
+        source.properties.put("my.prop", "a,b");
+        assertArrayEquals(new String[] {"a", "b"}, config.handle("my.prop", String[].class).getValue());
+    }
+}
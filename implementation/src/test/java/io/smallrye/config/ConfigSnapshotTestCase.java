@@ -0,0 +1,206 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.config;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.smallrye.config.ValueCacheTestCase.MutableConfigSource;
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.junit.Test;
+
+public class ConfigSnapshotTestCase {
+
+    @Test
+    public void testReloadTakesNewSnapshotOfSystemProperties() {
+        System.setProperty("my.sys.prop", "before");
+        try {
+            SmallRyeConfig config = (SmallRyeConfig) new SmallRyeConfigBuilder()
+                    .withStaticSourcesIndex()
+                    .withValueCache()
+                    .withSources(new SysPropConfigSource())
+                    .build();
+            ConfigKey<String> key = config.handle("my.sys.prop", String.class);
+            assertEquals("before", key.getValue());
+
+            System.setProperty("my.sys.prop", "after");
+            assertEquals("before", config.getValue("my.sys.prop", String.class));
+            config.reload();
+            assertEquals("after", config.getValue("my.sys.prop", String.class));
+            assertEquals("after", key.getValue());
+        } finally {
+            System.clearProperty("my.sys.prop");
+        }
+    }
+
+    @Test
+    public void testPropertyNames() {
+        MutableConfigSource first = new MutableConfigSource(200);
+        first.properties.put("my.prop", "first");
+        first.properties.put("my.dynamic.prop", "first");
+        MutableConfigSource second = new MutableConfigSource(50);
+        second.properties.put("my.dynamic.prop", "second");
+        SmallRyeConfig config = (SmallRyeConfig) new SmallRyeConfigBuilder()
+                .withSources(first, new PropertiesConfigSource(Collections.singletonMap("my.prop", "static"), "test", 100), second)
+                .build();
+
+        Iterable<String> names = config.getPropertyNames();
+        assertEquals(Arrays.asList("my.prop", "my.dynamic.prop"), toList(names));
+
+        second.properties.put("my.other.prop", "second");
+        assertEquals(Arrays.asList("my.prop", "my.dynamic.prop", "my.other.prop"), toList(names));
+    }
+
+    private static List<String> toList(Iterable<String> names) {
+        List<String> list = new ArrayList<>();
+        for (String name : names) {
+            list.add(name);
+        }
+        return list;
+    }
+
+    @Test
+    public void testReloadWithNewSources() {
+        MutableConfigSource source = new MutableConfigSource(100);
+        source.properties.put("my.prop", "low");
+        SmallRyeConfig config = (SmallRyeConfig) new SmallRyeConfigBuilder()
+                .withSources(source)
+                .build();
+
+        MutableConfigSource newSource = new MutableConfigSource(200);
+        newSource.properties.put("my.prop", "high");
+        List<ConfigSource> sources = new ArrayList<>();
+        config.getConfigSources().forEach(sources::add);
+        sources.add(newSource);
+        config.reload(sources);
+
+        assertEquals("high", config.getValue("my.prop", String.class));
+        assertEquals(newSource, config.getConfigSources().iterator().next());
+    }
+
+    @Test
+    public void testReloadWithNewSourcesIsNotLostByConcurrentReloads() throws InterruptedException {
+        MutableConfigSource source = new MutableConfigSource(100);
+        source.properties.put("my.prop", "low");
+        SmallRyeConfig config = (SmallRyeConfig) new SmallRyeConfigBuilder()
+                .withStaticSourcesIndex()
+                .withSources(source)
+                .build();
+
+        AtomicBoolean done = new AtomicBoolean();
+        Thread[] reloaders = new Thread[4];
+        for (int i = 0; i < reloaders.length; i++) {
+            reloaders[i] = new Thread(() -> {
+                while (!done.get()) {
+                    config.reload();
+                }
+            });
+            reloaders[i].start();
+        }
+        try {
+            for (int i = 0; i < 100; i++) {
+                MutableConfigSource newSource = new MutableConfigSource(200);
+                newSource.properties.put("my.prop", "high" + i);
+                config.reload(Arrays.asList(source, newSource));
+                // a concurrent reload is built again from the new sources instead of replacing them
+                assertEquals("high" + i, config.getValue("my.prop", String.class));
+            }
+        } finally {
+            done.set(true);
+            for (Thread reloader : reloaders) {
+                reloader.join();
+            }
+        }
+        assertEquals("high99", config.getValue("my.prop", String.class));
+    }
+
+    @Test
+    public void testSnapshotPinsTheValuesOfAPropertyTogether() {
+        MutableConfigSource first = new MutableConfigSource(200);
+        first.properties.put("my.prop", "");
+        MutableConfigSource second = new MutableConfigSource(100);
+        second.properties.put("my.prop", "1");
+        SmallRyeConfig config = (SmallRyeConfig) new SmallRyeConfigBuilder()
+                .withSources(first, second)
+                .build();
+
+        SmallRyeConfig snapshot = config.snapshot();
+        assertEquals("", snapshot.getValue("my.prop", String.class));
+
+        // the value found after the empty one is pinned when the empty value is read
+        second.properties.put("my.prop", "2");
+        assertEquals(Optional.of("1"), snapshot.getOptionalValue("my.prop", String.class));
+        assertEquals(Optional.of("2"), config.getOptionalValue("my.prop", String.class));
+    }
+
+    @Test
+    public void testSnapshotIsConsistent() {
+        MutableConfigSource source = new MutableConfigSource();
+        source.properties.put("my.prop", "1");
+        SmallRyeConfig config = (SmallRyeConfig) new SmallRyeConfigBuilder()
+                .withSources(source)
+                .build();
+
+        SmallRyeConfig snapshot = config.snapshot();
+        assertEquals(1, snapshot.getIntValue("my.prop"));
+        assertFalse(snapshot.getOptionalValue("my.other.prop", String.class).isPresent());
+
+        source.properties.put("my.prop", "2");
+        source.properties.put("my.other.prop", "2");
+        assertEquals(2, config.getIntValue("my.prop"));
+        assertEquals(1, snapshot.getIntValue("my.prop"));
+        assertFalse(snapshot.getOptionalValue("my.other.prop", String.class).isPresent());
+
+        config.reload(Collections.emptyList());
+        assertEquals(1, snapshot.getIntValue("my.prop"));
+        assertFalse(config.getOptionalValue("my.prop", String.class).isPresent());
+    }
+
+    @Test
+    public void testSnapshotDoesNotShareValueCache() {
+        MutableConfigSource source = new MutableConfigSource();
+        source.properties.put("my.prop", "1");
+        SmallRyeConfig config = (SmallRyeConfig) new SmallRyeConfigBuilder()
+                .withValueCache()
+                .withSources(source)
+                .build();
+
+        SmallRyeConfig snapshot = config.snapshot();
+        assertEquals("1", snapshot.getValue("my.prop", String.class));
+
+        source.properties.put("my.prop", "2");
+        config.invalidate("my.prop");
+        // the pinned value is read after the invalidation, before the config reads the new value
+        assertEquals(Integer.valueOf(1), snapshot.getValue("my.prop", Integer.class));
+        assertEquals(Integer.valueOf(2), config.getValue("my.prop", Integer.class));
+        assertEquals("2", config.getValue("my.prop", String.class));
+        assertEquals("1", snapshot.getValue("my.prop", String.class));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testSnapshotCanNotBeReloaded() {
+        SmallRyeConfig config = (SmallRyeConfig) new SmallRyeConfigBuilder().build();
+        config.snapshot().reload();
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.config;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.spi.ConfigBuilder;
+import org.eclipse.microprofile.config.spi.ConfigSource;
+
+/**
+ * Files, class loaders and configs shared by the test cases.
+ */
+final class ConfigTestSupport {
+
+    private ConfigTestSupport() {
+    }
+
+    /**
+     * Writes a resource of a class path directory, such as a service file, encoded in UTF-8.
+     */
+    static Path write(File directory, String resource, String content) throws IOException {
+        Path file = directory.toPath().resolve(resource);
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    /**
+     * Writes a properties file, encoded in ISO 8859-1.
+     */
+    static File write(File file, String content) throws IOException {
+        Files.createDirectories(file.getParentFile().toPath());
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.ISO_8859_1));
+        return file;
+    }
+
+    /**
+     * @return a class loader of the directories that also sees the test classes
+     */
+    static URLClassLoader newClassLoader(File... directories) throws IOException {
+        URL[] urls = new URL[directories.length];
+        for (int i = 0; i < directories.length; i++) {
+            urls[i] = directories[i].toURI().toURL();
+        }
+        return new URLClassLoader(urls, ConfigTestSupport.class.getClassLoader());
+    }
+
+    /**
+     * Builds a config with the default sources of the class loader.
+     */
+    static SmallRyeConfig build(ConfigBuilder builder, ClassLoader loader) {
+        return (SmallRyeConfig) builder
+                .forClassLoader(loader)
+                .addDefaultSources()
+                .build();
+    }
+
+    /**
+     * @return the names of the config sources, by decreasing priority
+     */
+    static List<String> names(Config config) {
+        List<String> names = new ArrayList<>();
+        for (ConfigSource configSource : config.getConfigSources()) {
+            names.add(configSource.getName());
+        }
+        return names;
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.config;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.smallrye.config.ValueCacheTestCase.MutableConfigSource;
+import org.junit.Test;
+
+public class ConfigViewTestCase {
+
+    @Test
+    public void testPropertyNamesWithPrefix() {
+        checkPropertyNamesWithPrefix(new SmallRyeConfigBuilder());
+    }
+
+    @Test
+    public void testPropertyNamesWithPrefixAndStaticSourcesIndex() {
+        checkPropertyNamesWithPrefix(new SmallRyeConfigBuilder().withStaticSourcesIndex());
+    }
+
+    private void checkPropertyNamesWithPrefix(SmallRyeConfigBuilder builder) {
+        MutableConfigSource dynamic = new MutableConfigSource(200);
+        dynamic.properties.put("datasource.password", "secret");
+        SmallRyeConfig config = (SmallRyeConfig) builder
+                .withSources(dynamic, new PropertiesConfigSource(properties(), "test", 100))
+                .build();
+
+        assertEquals(asList("datasource.password", "datasource.pool.max", "datasource.url", "datasource.user"),
+                new ArrayList<>(config.getPropertyNames("datasource.")));
+        assertEquals(asList("datasourcex"), new ArrayList<>(config.getPropertyNames("datasourcex")));
+        assertFalse(config.getPropertyNames("").isEmpty());
+        assertEquals(0, config.getPropertyNames("missing.").size());
+
+        dynamic.properties.put("datasource.driver", "h2");
+        assertEquals(asList("datasource.driver", "datasource.password", "datasource.pool.max", "datasource.url", "datasource.user"),
+                new ArrayList<>(config.getPropertyNames("datasource.")));
+    }
+
+    @Test
+    public void testView() {
+        MutableConfigSource dynamic = new MutableConfigSource(200);
+        dynamic.properties.put("datasource.user", "admin");
+        SmallRyeConfig config = (SmallRyeConfig) new SmallRyeConfigBuilder()
+                .withSources(dynamic, new PropertiesConfigSource(properties(), "test", 100))
+                .build();
+
+        ConfigView datasource = config.view("datasource");
+        assertEquals("datasource.", datasource.getPrefix());
+        assertEquals("jdbc:h2:mem", datasource.getValue("url", String.class));
+        assertEquals("admin", datasource.getValue("user", String.class));
+        assertFalse(datasource.getOptionalValue("password", String.class).isPresent());
+        assertEquals(asList("pool.max", "url", "user"), names(datasource));
+
+        ConfigView pool = datasource.view("pool");
+        assertEquals("datasource.pool.", pool.getPrefix());
+        assertEquals(Integer.valueOf(10), pool.getValue("max", Integer.class));
+        assertEquals(asList("max"), names(pool));
+    }
+
+    private static Map<String, String> properties() {
+        Map<String, String> properties = new HashMap<>();
+        properties.put("datasource.url", "jdbc:h2:mem");
+        properties.put("datasource.user", "sa");
+        properties.put("datasource.pool.max", "10");
+        properties.put("datasourcex", "other");
+        properties.put("server.port", "8080");
+        return properties;
+    }
+
+    private static List<String> names(ConfigView view) {
+        List<String> names = new ArrayList<>();
+        for (String name : view.getPropertyNames()) {
+            names.add(name);
+        }
+        return names;
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.config;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eclipse.microprofile.config.spi.Converter;
+import org.junit.Test;
+
+public class ConverterRegistryTestCase {
+
+    @Test
+    public void testImplicitConverterIsResolvedOnce() throws Exception {
+        SmallRyeConfig config = (SmallRyeConfig) new SmallRyeConfigBuilder().build();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Converter>> futures = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                futures.add(executor.submit((Callable<Converter>) () -> config.getConverter(StringBuilder.class)));
+            }
+            Converter converter = futures.get(0).get();
+            for (Future<Converter> future : futures) {
+                assertSame(converter, future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals("foo", config.convert("foo", StringBuilder.class).toString());
+    }
+
+    @Test
+    public void testMissingConverter() {
+        SmallRyeConfig config = (SmallRyeConfig) new SmallRyeConfigBuilder().build();
+        for (int i = 0; i < 2; i++) {
+            try {
+                config.getConverter(ConverterRegistryTestCase.class);
+                fail();
+            } catch (IllegalArgumentException e) {
+            }
+        }
+    }
+}
@@ -17,19 +17,27 @@
 package io.smallrye.config;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 
 import java.io.File;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 
 import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 /**
  * @author <a href="http://jmesnil.net/">Jeff Mesnil</a> (c) 2017 Red Hat inc.
  */
 public class DirConfigSourceTestCase {
 
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
     @Test
     public void testConfigSourceFromDir() throws URISyntaxException {
         URL configDirURL = this.getClass().getResource("configDir");
@@ -42,4 +50,16 @@ public class DirConfigSourceTestCase {
         assertEquals("myValue1", configSource.getValue("myKey1"));
         assertEquals("true", configSource.getValue("myKey2"));
     }
+
+    @Test
+    public void testDirIsScannedWhenCreated() throws Exception {
+        File dir = folder.newFolder();
+        Files.write(new File(dir, "myKey1").toPath(), "myValue1".getBytes(StandardCharsets.UTF_8));
+        ConfigSource configSource = new DirConfigSource(dir, 100);
+
+        Files.write(new File(dir, "myKey2").toPath(), "myValue2".getBytes(StandardCharsets.UTF_8));
+        assertEquals("myValue1", configSource.getValue("myKey1"));
+        assertNull(configSource.getValue("myKey2"));
+        assertEquals(1, configSource.getProperties().size());
+    }
 }
@@ -54,4 +54,12 @@ public class EnvConfigSourceTestCase {
                 assertEquals(envProp, cs.getValue("SMALLRYE-MP-CONFIG-PROP"));
                 assertFalse(cs.getPropertyNames().contains("SMALLRYE-MP-CONFIG-PROP"));
         }
+
+        @Test
+        public void testReplaceNonAlphanumericByUnderscores() {
+                String[] names = { "smallrye_mp_config_prop", "smallrye.mp-config/prop", "a\uD83D\uDE00b.c", "\u00e9t\u00e9", "lone\uD83Dsurrogate", "\uDE00" };
+                for (String name : names) {
+                        assertEquals(name, name.replaceAll("[^a-zA-Z0-9_]", "_"), EnvConfigSource.replaceNonAlphanumericByUnderscores(name));
+                }
+        }
 }
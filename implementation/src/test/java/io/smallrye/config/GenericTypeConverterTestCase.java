@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.smallrye.config;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class GenericTypeConverterTestCase {
+
+    List<Integer> listOfIntegers;
+    Set<String> setOfStrings;
+    Optional<Duration> optionalDuration;
+    List<int[]> listOfArrays;
+    Map<String, Long> mapOfLongs;
+    List<?> listOfWildcards;
+
+    @Test
+    public void testComposedConverters() throws Exception {
+        SmallRyeConfig config = (SmallRyeConfig) new SmallRyeConfigBuilder().build();
+
+        assertEquals(asList(1, 2, 3), config.convert("1,2,3", type("listOfIntegers")));
+        assertEquals(asList("b", "a"), new ArrayList<>(config.<Set<String>>convert("b,a,b", type("setOfStrings"))));
+        assertEquals(Optional.of(Duration.ofSeconds(3)), config.convert("PT3S", type("optionalDuration")));
+        List<int[]> arrays = config.convert("1,2", type("listOfArrays"));
+        assertArrayEquals(new int[] { 2 }, arrays.get(1));
+        assertArrayEquals(new long[] { 1, 2 }, config.convert("1,2", (Type) long[].class));
+    }
+
+    @Test
+    public void testComposedConvertersAreCached() throws Exception {
+        SmallRyeConfig config = (SmallRyeConfig) new SmallRyeConfigBuilder().build();
+
+        assertSame(config.resolveConverter(type("listOfIntegers")), config.resolveConverter(type("listOfIntegers")));
+        assertSame(config.resolveConverter(long[].class), config.resolveConverter(long[].class));
+        assertSame(config.resolveConverter(Integer.class), config.resolveConverter(Integer.class));
+    }
+
+    @Test
+    public void testUnsupportedTypes() throws Exception {
+        SmallRyeConfig config = (SmallRyeConfig) new SmallRyeConfigBuilder().build();
+        for (String field : new String[] { "mapOfLongs", "listOfWildcards" }) {
+            try {
+                config.resolveConverter(type(field));
+                fail(field);
+            } catch (IllegalArgumentException e) {
+            }
+        }
+    }
+
+    @Test
+    public void testGenericValuesAreCached() throws Exception {
+        Map<String, String> properties = new HashMap<>();
+        properties.put("my.list", "1,2");
+        SmallRyeConfig config = (SmallRyeConfig) new SmallRyeConfigBuilder()
+                .withValueCache()
+                .withSources(new PropertiesConfigSource(properties, "test", 100))
+                .build();
+
+        List<Integer> list = config.getValue("my.list", type("listOfIntegers"));
+        assertEquals(asList(1, 2), list);
+        assertSame(list, config.getValue("my.list", type("listOfIntegers")));
+        assertEquals(Optional.of(list), config.getOptionalValue("my.list", type("listOfIntegers")));
+        assertEquals(Optional.empty(), config.getOptionalValue("my.missing", type("listOfIntegers")));
+    }
+
+    @Test
+    public void testSerializationAfterComposingConverters() throws Exception {
+        Map<String, String> properties = new HashMap<>();
+        properties.put("my.list", "1,2");
+        SmallRyeConfig config = (SmallRyeConfig) new SmallRyeConfigBuilder()
+                .withSources(new PropertiesConfigSource(properties, "test", 100))
+                .build();
+        assertEquals(asList(1, 2), config.getValue("my.list", type("listOfIntegers")));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(config);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            SmallRyeConfig deserialized = (SmallRyeConfig) in.readObject();
+            assertEquals(asList(1, 2), deserialized.getValue("my.list", type("listOfIntegers")));
+        }
+    }
+
+    private static Type type(String field) throws NoSuchFieldException {
+        return GenericTypeConverterTestCase.class.getDeclaredField(field).getGenericType();
+    }
+}
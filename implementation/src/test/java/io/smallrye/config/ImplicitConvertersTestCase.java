@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.config;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.time.Duration;
+
+import org.eclipse.microprofile.config.spi.Converter;
+import org.junit.Test;
+
+public class ImplicitConvertersTestCase {
+
+    @Test
+    public void testStaticMethodConverter() throws Exception {
+        Converter<Duration> converter = ImplicitConverters.getConverter(Duration.class);
+        assertEquals(Duration.ofSeconds(5), converter.convert("PT5S"));
+        // the public method of a JDK class is called by a generated converter
+        assertTrue(((ImplicitConverters.MethodHandleConverter<?>) converter).isGenerated());
+        Converter<Duration> deserialized = serializeAndDeserialize(converter);
+        assertEquals(Duration.ofSeconds(5), deserialized.convert("PT5S"));
+        assertTrue(((ImplicitConverters.MethodHandleConverter<?>) deserialized).isGenerated());
+    }
+
+    @Test
+    public void testConstructorConverter() throws Exception {
+        Converter<Token> converter = ImplicitConverters.getConverter(Token.class);
+        assertEquals("abc", converter.convert("abc").value);
+        // the private constructor is called through its method handle
+        assertFalse(((ImplicitConverters.MethodHandleConverter<?>) converter).isGenerated());
+        assertEquals("abc", serializeAndDeserialize(converter).convert("abc").value);
+    }
+
+    @Test
+    public void testConversionFailure() {
+        Converter<URI> converter = ImplicitConverters.getConverter(URI.class);
+        try {
+            converter.convert("not a uri");
+            fail();
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getCause() instanceof URISyntaxException);
+        }
+    }
+
+    @Test
+    public void testNoConverter() {
+        assertNull(ImplicitConverters.getConverter(Object.class));
+        assertNull(ImplicitConverters.getConverter(Object.class));
+    }
+
+    @Test
+    public void testConverterIsSharedAndFollowsSpecificationOrder() {
+        Converter<Token> converter = ImplicitConverters.getConverter(Token.class);
+        assertSame(converter, ImplicitConverters.getConverter(Token.class));
+
+        // valueOf(String) has precedence over the constructor
+        Converter<Ordered> ordered = ImplicitConverters.getConverter(Ordered.class);
+        assertEquals("valueOf", ordered.convert("abc").source);
+    }
+
+    private static <T> Converter<T> serializeAndDeserialize(Converter<T> converter) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(converter);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return (Converter<T>) in.readObject();
+        }
+    }
+
+    public static class Ordered {
+
+        final String source;
+
+        public Ordered(String value) {
+            this.source = "constructor";
+        }
+
+        private Ordered(String value, String source) {
+            this.source = source;
+        }
+
+        public static Ordered valueOf(String value) {
+            return new Ordered(value, "valueOf");
+        }
+    }
+
+    private static class Token {
+
+        final String value;
+
+        private Token(String value) {
+            this.value = value;
+        }
+    }
+}
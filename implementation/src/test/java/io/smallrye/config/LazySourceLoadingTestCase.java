@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.config;
+
+import static io.smallrye.config.ConfigTestSupport.newClassLoader;
+import static io.smallrye.config.ConfigTestSupport.write;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.net.URLClassLoader;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class LazySourceLoadingTestCase {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testPropertiesAreLoadedOnFirstLookup() throws Exception {
+        File file = write(folder.newFile(), "my.prop=value\n");
+        LazyPropertiesConfigSource configSource = new LazyPropertiesConfigSource(file.toURI().toURL());
+        assertFalse(configSource.isLoaded());
+        assertEquals(100, configSource.getOrdinal());
+
+        // the content read when the config source was created is parsed, the file is not read again
+        assertTrue(file.delete());
+        assertEquals("value", configSource.getValue("my.prop"));
+        assertTrue(configSource.isLoaded());
+    }
+
+    @Test
+    public void testEscapedValuesAreLoadedOnFirstLookup() throws Exception {
+        LazyPropertiesConfigSource configSource = new LazyPropertiesConfigSource(
+                write(folder.newFile(), "my.prop=a\\tb\\\n    c\nmy\\ key=config_ordinal\n# config_ordinal=200\n").toURI().toURL());
+        assertFalse(configSource.isLoaded());
+        assertEquals(100, configSource.getOrdinal());
+        assertEquals("a\tbc", configSource.getValue("my.prop"));
+        assertEquals("config_ordinal", configSource.getValue("my key"));
+    }
+
+    @Test
+    public void testOrdinalIsReadWhenCreated() throws Exception {
+        LazyPropertiesConfigSource configSource = new LazyPropertiesConfigSource(write(folder.newFile(), "my.prop=value\nconfig_ordinal=200\n").toURI().toURL());
+        assertTrue(configSource.isLoaded());
+        assertEquals(200, configSource.getOrdinal());
+
+        // the key may be escaped
+        configSource = new LazyPropertiesConfigSource(write(folder.newFile(), "config\\u005Fordinal=300\n").toURI().toURL());
+        assertTrue(configSource.isLoaded());
+        assertEquals(300, configSource.getOrdinal());
+        configSource = new LazyPropertiesConfigSource(write(folder.newFile(), "config_\\\n    ordinal=400\n").toURI().toURL());
+        assertEquals(400, configSource.getOrdinal());
+    }
+
+    @Test
+    public void testSerialization() throws Exception {
+        LazyPropertiesConfigSource configSource = new LazyPropertiesConfigSource(write(folder.newFile(), "my.prop=value\n").toURI().toURL());
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(configSource);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            ConfigSource deserialized = (ConfigSource) in.readObject();
+            assertEquals(configSource.getName(), deserialized.getName());
+            assertEquals(configSource.getOrdinal(), deserialized.getOrdinal());
+            assertEquals("value", deserialized.getValue("my.prop"));
+        }
+    }
+
+    @Test
+    public void testDirIsScannedOnFirstLookup() throws Exception {
+        File dir = folder.newFolder();
+        write(new File(dir, "config_ordinal"), "500");
+        ConfigSource configSource = new DirConfigSource(dir, 100, Integer.MAX_VALUE, true);
+        assertEquals(500, configSource.getOrdinal());
+
+        write(new File(dir, "my.prop"), "value");
+        assertEquals("value", configSource.getValue("my.prop"));
+    }
+
+    @Test
+    public void testLazySourceLoading() throws Exception {
+        File dir = folder.newFolder();
+        write(new File(dir, SmallRyeConfigBuilder.META_INF_MICROPROFILE_CONFIG_PROPERTIES), "my.prop=value\n");
+        try (URLClassLoader loader = newClassLoader(dir)) {
+            SmallRyeConfig config = (SmallRyeConfig) new SmallRyeConfigBuilder()
+                    .withLazySourceLoading()
+                    .forClassLoader(loader)
+                    .addDefaultSources()
+                    .build();
+            LazyPropertiesConfigSource configSource = null;
+            for (ConfigSource source : config.getConfigSources()) {
+                if (source instanceof LazyPropertiesConfigSource) {
+                    configSource = (LazyPropertiesConfigSource) source;
+                }
+            }
+            assertFalse(configSource.isLoaded());
+            assertEquals("value", config.getValue("my.prop", String.class));
+            assertTrue(configSource.isLoaded());
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.config;
+
+import static io.smallrye.config.ConfigTestSupport.names;
+import static io.smallrye.config.ConfigTestSupport.newClassLoader;
+import static io.smallrye.config.ConfigTestSupport.write;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.net.URLClassLoader;
+import java.util.Properties;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ParallelSourceLoadingTestCase {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testParallelLoadingIsDeterministic() throws Exception {
+        try (URLClassLoader loader = newClassLoaderOfFiles(40)) {
+            SmallRyeConfig sequential = build(loader, 1);
+            for (int i = 0; i < 5; i++) {
+                SmallRyeConfig parallel = build(loader, 8);
+                assertEquals(names(sequential), names(parallel));
+                for (String name : sequential.getPropertyNames()) {
+                    assertEquals(sequential.getValue(name, String.class), parallel.getValue(name, String.class));
+                }
+            }
+            // the files with the default ordinal are sorted by name
+            assertEquals("file9", sequential.getValue("shared", String.class));
+            // the file with the highest ordinal wins
+            assertEquals("file30", sequential.getValue("overridden", String.class));
+        }
+    }
+
+    @Test
+    public void testParallelLoadingFailure() throws Exception {
+        File dir = folder.newFolder();
+        write(dir, SmallRyeConfigBuilder.META_INF_MICROPROFILE_CONFIG_PROPERTIES, "malformed=\\u00");
+        try (URLClassLoader loader = newClassLoader(dir)) {
+            build(loader, 4);
+            fail("loading a malformed property file must fail");
+        } catch (IllegalArgumentException e) {
+            // the failure of the loading thread is rethrown by the builder
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidParallelism() {
+        new SmallRyeConfigBuilder().withParallelSourceLoading(0);
+    }
+
+    private static SmallRyeConfig build(ClassLoader loader, int parallelism) {
+        return ConfigTestSupport.build(new SmallRyeConfigBuilder().withParallelSourceLoading(parallelism), loader);
+    }
+
+    private URLClassLoader newClassLoaderOfFiles(int files) throws IOException {
+        File[] dirs = new File[files];
+        for (int i = 0; i < files; i++) {
+            dirs[i] = folder.newFolder("file" + i);
+            Properties properties = new Properties();
+            properties.setProperty("file" + i + ".key", "value" + i);
+            if (i % 10 != 0) {
+                properties.setProperty("shared", "file" + i);
+            } else {
+                properties.setProperty("config_ordinal", Integer.toString(100 + i));
+                properties.setProperty("overridden", "file" + i);
+            }
+            StringWriter content = new StringWriter();
+            properties.store(content, null);
+            write(new File(dirs[i], SmallRyeConfigBuilder.META_INF_MICROPROFILE_CONFIG_PROPERTIES), content.toString());
+        }
+        return newClassLoader(dirs);
+    }
+}
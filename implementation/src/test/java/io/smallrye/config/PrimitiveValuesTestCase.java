@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.config;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.junit.Test;
+
+public class PrimitiveValuesTestCase {
+
+    private static SmallRyeConfig buildConfig(SmallRyeConfigBuilder builder) {
+        Map<String, String> properties = new HashMap<>();
+        properties.put("my.int", "123");
+        properties.put("my.long", "1234567890123");
+        properties.put("my.double", "1.5");
+        properties.put("my.boolean", "yes");
+        properties.put("my.empty", "");
+        return (SmallRyeConfig) builder.withSources(new PropertiesConfigSource(properties, "test", 100)).build();
+    }
+
+    @Test
+    public void testPrimitiveValues() {
+        SmallRyeConfig config = buildConfig(new SmallRyeConfigBuilder());
+
+        assertEquals(123, config.getIntValue("my.int"));
+        assertEquals(123, config.getIntValue("my.int", 0));
+        assertEquals(0, config.getIntValue("my.missing", 0));
+        assertEquals(0, config.getIntValue("my.empty", 0));
+        assertEquals(123, config.getOptionalIntValue("my.int").getAsInt());
+        assertFalse(config.getOptionalIntValue("my.missing").isPresent());
+
+        assertEquals(1234567890123L, config.getLongValue("my.long"));
+        assertEquals(1L, config.getLongValue("my.missing", 1L));
+        assertEquals(1234567890123L, config.getOptionalLongValue("my.long").getAsLong());
+        assertFalse(config.getOptionalLongValue("my.empty").isPresent());
+
+        assertEquals(1.5, config.getDoubleValue("my.double"), 0.0);
+        assertEquals(2.5, config.getDoubleValue("my.missing", 2.5), 0.0);
+        assertEquals(1.5, config.getOptionalDoubleValue("my.double").getAsDouble(), 0.0);
+
+        assertTrue(config.getBooleanValue("my.boolean"));
+        assertTrue(config.getBooleanValue("my.missing", true));
+    }
+
+    @Test
+    public void testPrimitiveValuesWithValueCache() {
+        SmallRyeConfig config = buildConfig(new SmallRyeConfigBuilder().withValueCache());
+
+        assertEquals(123, config.getIntValue("my.int"));
+        assertEquals(123, config.getIntValue("my.int"));
+        assertEquals(0, config.getIntValue("my.missing", 0));
+        assertTrue(config.getBooleanValue("my.boolean"));
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testMissingPrimitiveValue() {
+        buildConfig(new SmallRyeConfigBuilder()).getIntValue("my.missing");
+    }
+
+    @Test
+    public void testCustomConverterIsUsed() {
+        SmallRyeConfigBuilder builder = new SmallRyeConfigBuilder();
+        builder.withConverter(Integer.class, 200, value -> Integer.valueOf(value) * 2);
+        SmallRyeConfig config = buildConfig(builder);
+
+        assertEquals(246, config.getIntValue("my.int"));
+        assertEquals(246, config.getOptionalIntValue("my.int").getAsInt());
+    }
+}
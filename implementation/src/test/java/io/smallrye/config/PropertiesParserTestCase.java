@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.config;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class PropertiesParserTestCase {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testSyntax() throws IOException {
+        assertSameAsProperties("");
+        assertSameAsProperties("a=b\nc:d\ne f\ng\n");
+        assertSameAsProperties("  # comment\n! comment\\\nkey = value \\\n    continued\\\r\n\tagain\r\nlast");
+        assertSameAsProperties("a\\=b\\:c\\ d=e\\tf\\ng\\\\h\\u00e9\\u20AC\\x");
+        assertSameAsProperties("key=\\\n\n\nnext=value\\\\\n");
+        assertSameAsProperties("key==value\nkey2 : : value\nempty=\nonly.key");
+        assertSameAsProperties("caf\u00e9=cr\u00e8me\r\r\n\u00ff=\u0080");
+        assertSameAsProperties("dup=first\ndup=second\nends.with.backslash=\\");
+        assertSameAsProperties("# comment\\\nkey=value\n!\n#\r\n  \\\n  ab=c");
+    }
+
+    @Test
+    public void testMalformedUnicodeEscape() {
+        for (String content : new String[] { "key=\\u00g0", "key=\\u00", "k\\uZZZZ=value" }) {
+            try {
+                parse(content);
+                fail(content);
+            } catch (IllegalArgumentException e) {
+                assertEquals("Malformed \\uxxxx encoding.", e.getMessage());
+            }
+        }
+    }
+
+    @Test
+    public void testRandomContent() throws IOException {
+        // no 'u', truncated unicode escapes are undefined with Properties,
+        // and no comments, a comment ending with a backslash changes the next line depending on the JDK
+        char[] alphabet = { ' ', '\t', '\f', '\r', '\n', '\\', '\\', '=', ':', 'a', 'b', 'n', 't', '0', '\u00e9' };
+        Random random = new Random(42);
+        for (int i = 0; i < 20000; i++) {
+            char[] content = new char[random.nextInt(40)];
+            for (int j = 0; j < content.length; j++) {
+                content[j] = alphabet[random.nextInt(alphabet.length)];
+            }
+            assertSameAsProperties(new String(content));
+        }
+    }
+
+    @Test
+    public void testLargeFileIsMapped() throws IOException {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; content.length() < 512 * 1024; i++) {
+            content.append("key.").append(i).append(" = value \\\n    ").append(i).append("\\u00e9\n# comment ").append(i).append('\n');
+        }
+        File file = folder.newFile("large.properties");
+        Files.write(file.toPath(), content.toString().getBytes(StandardCharsets.ISO_8859_1));
+        assertEquals(load(content.toString()), PropertiesParser.parse(file.toURI().toURL()));
+    }
+
+    private static void assertSameAsProperties(String content) throws IOException {
+        assertEquals(content, load(content), parse(content));
+        byte[] bytes = content.getBytes(StandardCharsets.ISO_8859_1);
+        assertEquals(content, load(content), PropertiesParser.parse(new ByteArrayInputStream(bytes)));
+    }
+
+    private static Map<String, String> parse(String content) {
+        return PropertiesParser.parse(ByteBuffer.wrap(content.getBytes(StandardCharsets.ISO_8859_1)));
+    }
+
+    private static Map<String, String> load(String content) throws IOException {
+        Properties properties = new Properties();
+        properties.load(new ByteArrayInputStream(content.getBytes(StandardCharsets.ISO_8859_1)));
+        return new HashMap(properties);
+    }
+}
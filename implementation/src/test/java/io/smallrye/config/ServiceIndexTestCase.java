@@ -0,0 +1,215 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.smallrye.config;
+
+import static io.smallrye.config.ConfigTestSupport.newClassLoader;
+import static io.smallrye.config.ConfigTestSupport.write;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ServiceIndexTestCase {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testGenerateAndLoadIndex() throws Exception {
+        File services = folder.newFolder("services");
+        write(services, "META-INF/services/" + ConfigSource.class.getName(),
+                "# comment\n" + IndexedConfigSource.class.getName() + " # trailing comment\n\n" + IndexedConfigSource.class.getName() + "\n");
+        File index = folder.newFolder("index");
+        try (URLClassLoader loader = newClassLoader(services)) {
+            ServiceIndexGenerator.generate(loader, index.toPath().resolve(ServiceIndex.RESOURCE));
+        }
+
+        try (URLClassLoader loader = newClassLoader(index, services)) {
+            ServiceIndex serviceIndex = ServiceIndex.find(loader);
+            List<ConfigSource> sources = serviceIndex.load(ConfigSource.class, loader);
+            assertEquals(1, sources.size());
+            assertTrue(sources.get(0) instanceof IndexedConfigSource);
+            assertEquals(Collections.emptyList(), serviceIndex.load(ConfigFactory.class, loader));
+
+            SmallRyeConfig config = (SmallRyeConfig) new SmallRyeConfigBuilder()
+                    .forClassLoader(loader)
+                    .addDiscoveredSources()
+                    .build();
+            assertEquals("indexed", config.getValue("indexed.prop", String.class));
+        }
+    }
+
+    @Test
+    public void testFallbackToServiceLoader() throws Exception {
+        File services = folder.newFolder("services");
+        write(services, "META-INF/services/" + ConfigSource.class.getName(), IndexedConfigSource.class.getName());
+        // an index that does not list the config sources
+        write(services, ServiceIndex.RESOURCE, "org.eclipse.microprofile.config.spi.Converter=\n");
+        try (URLClassLoader loader = newClassLoader(services)) {
+            assertNull(ServiceIndex.find(loader).load(ConfigSource.class, loader));
+            SmallRyeConfig config = (SmallRyeConfig) new SmallRyeConfigBuilder()
+                    .forClassLoader(loader)
+                    .addDiscoveredSources()
+                    .build();
+            assertEquals("indexed", config.getValue("indexed.prop", String.class));
+        }
+        assertNull(ServiceIndex.find(getClass().getClassLoader()));
+    }
+
+    @Test
+    public void testInvalidProvider() throws Exception {
+        File index = folder.newFolder("index");
+        write(index, ServiceIndex.RESOURCE, ConfigSource.class.getName() + "=" + String.class.getName() + "\n"
+                + ServiceIndex.CLASSPATH + "=\n");
+        try (URLClassLoader loader = newClassLoader(index)) {
+            ServiceIndex.find(loader).load(ConfigSource.class, loader);
+            fail();
+        } catch (ServiceConfigurationError e) {
+        }
+    }
+
+    @Test
+    public void testIndexOfDependencyDoesNotHideServices() throws Exception {
+        File dependency = folder.newFolder("dependency");
+        write(dependency, "META-INF/services/" + ConfigSource.class.getName(), IndexedConfigSource.class.getName());
+        try (URLClassLoader loader = newClassLoader(dependency)) {
+            ServiceIndexGenerator.generate(loader, dependency.toPath().resolve(ServiceIndex.RESOURCE));
+        }
+        File application = folder.newFolder("application");
+        write(application, "META-INF/services/" + ConfigSource.class.getName(), ApplicationConfigSource.class.getName());
+
+        // the index of the dependency does not cover the services of the application
+        try (URLClassLoader loader = newClassLoader(dependency, application)) {
+            assertNull(ServiceIndex.find(loader).load(ConfigSource.class, loader));
+            checkDiscoveredSources(loader);
+        }
+
+        // the index of the application is used even if the index of the dependency comes first
+        try (URLClassLoader loader = newClassLoader(dependency, application)) {
+            ServiceIndexGenerator.generate(loader, application.toPath().resolve(ServiceIndex.RESOURCE));
+        }
+        try (URLClassLoader loader = newClassLoader(dependency, application)) {
+            assertEquals(2, ServiceIndex.find(loader).load(ConfigSource.class, loader).size());
+            checkDiscoveredSources(loader);
+        }
+    }
+
+    @Test
+    public void testIndexAvoidsServiceLookups() throws Exception {
+        File application = folder.newFolder("application");
+        write(application, "META-INF/services/" + ConfigSource.class.getName(), IndexedConfigSource.class.getName());
+        try (CountingClassLoader loader = new CountingClassLoader(application)) {
+            build(loader);
+            // ServiceLoader looks up every service
+            assertEquals(ServiceIndex.SERVICES.size(), loader.serviceLookups);
+        }
+
+        try (URLClassLoader loader = newClassLoader(application)) {
+            ServiceIndexGenerator.generate(loader, application.toPath().resolve(ServiceIndex.RESOURCE));
+        }
+        try (CountingClassLoader loader = new CountingClassLoader(application)) {
+            assertEquals("indexed", build(loader).getValue("indexed.prop", String.class));
+            // the index is read and checked without looking up the services
+            assertEquals(0, loader.serviceLookups);
+        }
+    }
+
+    private static SmallRyeConfig build(ClassLoader loader) {
+        return (SmallRyeConfig) new SmallRyeConfigBuilder()
+                .forClassLoader(loader)
+                .addDiscoveredSources()
+                .addDiscoveredConverters()
+                .build();
+    }
+
+    private static class CountingClassLoader extends URLClassLoader {
+        private int serviceLookups;
+
+        CountingClassLoader(File directory) throws Exception {
+            super(new URL[] { directory.toURI().toURL() }, CountingClassLoader.class.getClassLoader());
+        }
+
+        @Override
+        public Enumeration<URL> getResources(String name) throws IOException {
+            if (name.startsWith(ServiceIndex.SERVICES_DIRECTORY)) {
+                serviceLookups++;
+            }
+            return super.getResources(name);
+        }
+    }
+
+    private static void checkDiscoveredSources(ClassLoader loader) {
+        SmallRyeConfig config = (SmallRyeConfig) new SmallRyeConfigBuilder()
+                .forClassLoader(loader)
+                .addDiscoveredSources()
+                .build();
+        assertEquals("indexed", config.getValue("indexed.prop", String.class));
+        assertEquals("application", config.getValue("application.prop", String.class));
+    }
+
+    public static class IndexedConfigSource implements ConfigSource {
+
+        @Override
+        public Map<String, String> getProperties() {
+            return Collections.singletonMap("indexed.prop", "indexed");
+        }
+
+        @Override
+        public String getValue(String propertyName) {
+            return getProperties().get(propertyName);
+        }
+
+        @Override
+        public String getName() {
+            return "indexed";
+        }
+    }
+
+    public static class ApplicationConfigSource implements ConfigSource {
+
+        @Override
+        public Map<String, String> getProperties() {
+            return Collections.singletonMap("application.prop", "application");
+        }
+
+        @Override
+        public String getValue(String propertyName) {
+            return getProperties().get(propertyName);
+        }
+
+        @Override
+        public String getName() {
+            return "application";
+        }
+    }
+}
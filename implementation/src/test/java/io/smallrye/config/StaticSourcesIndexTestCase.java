@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.config;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+import io.smallrye.config.ValueCacheTestCase.MutableConfigSource;
+import org.junit.Test;
+
+public class StaticSourcesIndexTestCase {
+
+    @Test
+    public void testDynamicSourcesAreQueriedByOrdinal() {
+        Map<String, String> properties = new HashMap<>();
+        properties.put("my.prop", "static");
+        properties.put("my.other.prop", "static");
+        MutableConfigSource high = new MutableConfigSource(200);
+        MutableConfigSource low = new MutableConfigSource(50);
+        low.properties.put("my.other.prop", "low");
+        low.properties.put("my.low.prop", "low");
+
+        SmallRyeConfig config = (SmallRyeConfig) new SmallRyeConfigBuilder()
+                .withStaticSourcesIndex()
+                .withSources(new PropertiesConfigSource(properties, "test", 100), high, low)
+                .build();
+
+        assertEquals("static", config.getValue("my.prop", String.class));
+        assertEquals("static", config.getValue("my.other.prop", String.class));
+        assertEquals("low", config.getValue("my.low.prop", String.class));
+        assertFalse(config.getOptionalValue("my.missing.prop", String.class).isPresent());
+
+        high.properties.put("my.prop", "high");
+        assertEquals("high", config.getValue("my.prop", String.class));
+    }
+
+    @Test
+    public void testSerialization() throws Exception {
+        System.setProperty("my.sys.prop", "1234");
+        try {
+            SmallRyeConfig config = (SmallRyeConfig) new SmallRyeConfigBuilder()
+                    .withStaticSourcesIndex()
+                    .withValueCache()
+                    .addDefaultSources()
+                    .build();
+            assertEquals(Integer.valueOf(1234), config.getValue("my.sys.prop", Integer.class));
+
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+                out.writeObject(config);
+            }
+            try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+                SmallRyeConfig deserialized = (SmallRyeConfig) in.readObject();
+                assertEquals(Integer.valueOf(1234), deserialized.getValue("my.sys.prop", Integer.class));
+                assertEquals(System.getenv("PATH"), deserialized.getOptionalValue("PATH", String.class).orElse(null));
+            }
+        } finally {
+            System.clearProperty("my.sys.prop");
+        }
+    }
+
+    @Test
+    public void testEmptyValues() {
+        Map<String, String> properties = new HashMap<>();
+        properties.put("my.prop", "");
+        MutableConfigSource low = new MutableConfigSource(50);
+        low.properties.put("my.prop", "low");
+
+        SmallRyeConfig config = (SmallRyeConfig) new SmallRyeConfigBuilder()
+                .withStaticSourcesIndex()
+                .withSources(new PropertiesConfigSource(properties, "test", 100), low)
+                .build();
+
+        assertEquals("", config.getValue("my.prop", String.class));
+        assertEquals("low", config.getOptionalValue("my.prop", String.class).get());
+    }
+
+    @Test
+    public void testSystemPropertiesAreSnapshotted() {
+        System.setProperty("my.sys.prop", "before");
+        try {
+            SmallRyeConfig config = (SmallRyeConfig) new SmallRyeConfigBuilder()
+                    .withStaticSourcesIndex()
+                    .withSources(new SysPropConfigSource())
+                    .build();
+            System.setProperty("my.sys.prop", "after");
+            assertEquals("before", config.getValue("my.sys.prop", String.class));
+        } finally {
+            System.clearProperty("my.sys.prop");
+        }
+    }
+
+    @Test
+    public void testEnvironmentVariablesAreMatchedByNormalizedNames() {
+        String envProp = System.getenv("SMALLRYE_MP_CONFIG_PROP");
+        Map<String, String> properties = new HashMap<>();
+        properties.put("smallrye.mp.config.prop", "properties");
+
+        SmallRyeConfig config = (SmallRyeConfig) new SmallRyeConfigBuilder()
+                .withStaticSourcesIndex()
+                .withSources(new PropertiesConfigSource(properties, "test", 100), new EnvConfigSource())
+                .build();
+
+        assertEquals(envProp, config.getValue("smallrye.mp.config.prop", String.class));
+        assertEquals(envProp, config.getValue("smallrye-mp-config-prop", String.class));
+        assertEquals(envProp, config.getValue("SMALLRYE_MP_CONFIG_PROP", String.class));
+    }
+}
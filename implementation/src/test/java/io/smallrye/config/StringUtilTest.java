@@ -16,7 +16,15 @@
 
 package io.smallrye.config;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
 
 import org.junit.Test;
 
@@ -34,4 +42,39 @@ public class StringUtilTest {
         assertEquals("medium:chicken", split[1]);
         assertEquals("small:pepperoni", split[2]);
     }
+
+    @Test
+    public void testSplitHasSameSemanticsAsRegularExpression() {
+        for (String text : new String[] { "", ",", ",,", "a", "a,", "a,,", ",a", "a,,b", "\\,", "a\\,", "\\\\,a", "a\\,,b,\\," }) {
+            assertArrayEquals(text, regexSplit(text), StringUtil.split(text));
+        }
+        Random random = new Random(42);
+        char[] chars = { 'a', ',', '\\' };
+        for (int i = 0; i < 10000; i++) {
+            StringBuilder text = new StringBuilder();
+            int length = random.nextInt(10);
+            for (int j = 0; j < length; j++) {
+                text.append(chars[random.nextInt(chars.length)]);
+            }
+            assertArrayEquals(text.toString(), regexSplit(text.toString()), StringUtil.split(text.toString()));
+        }
+    }
+
+    @Test
+    public void testSegments() {
+        List<String> segments = new ArrayList<>();
+        for (Iterator<String> iterator = StringUtil.segments(new StringBuilder("a\\,b,c,,")); iterator.hasNext(); ) {
+            segments.add(iterator.next());
+        }
+        assertEquals(Arrays.asList("a,b", "c"), segments);
+        assertFalse(StringUtil.segments(null).hasNext());
+    }
+
+    private static String[] regexSplit(String text) {
+        String[] split = text.split("(?<!\\\\),");
+        for (int i = 0; i < split.length; i++) {
+            split[i] = split[i].replace("\\,", ",");
+        }
+        return split;
+    }
 }
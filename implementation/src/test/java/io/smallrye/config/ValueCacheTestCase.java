@@ -0,0 +1,183 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.config;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.junit.Test;
+
+public class ValueCacheTestCase {
+
+    @Test
+    public void testCachedValueIsInvalidated() {
+        MutableConfigSource source = new MutableConfigSource();
+        source.properties.put("my.prop", "1");
+        SmallRyeConfig config = (SmallRyeConfig) new SmallRyeConfigBuilder()
+                .withValueCache()
+                .withSources(source)
+                .build();
+
+        assertEquals(Integer.valueOf(1), config.getValue("my.prop", Integer.class));
+        assertEquals("1", config.getValue("my.prop", String.class));
+
+        source.properties.put("my.prop", "2");
+        assertEquals(Integer.valueOf(1), config.getValue("my.prop", Integer.class));
+        assertEquals(Integer.valueOf(1), config.getOptionalValue("my.prop", Integer.class).get());
+
+        config.invalidate("my.prop");
+        assertEquals(Integer.valueOf(2), config.getValue("my.prop", Integer.class));
+        assertEquals("2", config.getValue("my.prop", String.class));
+
+        source.properties.put("my.prop", "3");
+        config.invalidateAll();
+        assertEquals(Integer.valueOf(3), config.getOptionalValue("my.prop", Integer.class).get());
+    }
+
+    @Test
+    public void testMissingPropertiesAreBounded() {
+        MutableConfigSource source = new MutableConfigSource();
+        SmallRyeConfig config = (SmallRyeConfig) new SmallRyeConfigBuilder()
+                .withValueCache()
+                .withSources(source)
+                .build();
+
+        int max = ConfigValueCache.MAX_MISSING_PROPERTIES;
+        for (int i = 0; i <= max; i++) {
+            assertFalse(config.getOptionalValue("missing" + i, String.class).isPresent());
+        }
+        assertEquals(max + 1, source.lookups);
+
+        // the first missing properties are cached, the next ones are looked up every time
+        assertFalse(config.getOptionalValue("missing0", String.class).isPresent());
+        assertEquals(max + 1, source.lookups);
+        assertFalse(config.getOptionalValue("missing" + max, String.class).isPresent());
+        assertEquals(max + 2, source.lookups);
+
+        // an invalidation makes room for another missing property
+        config.invalidate("missing0");
+        assertFalse(config.getOptionalValue("missing" + max, String.class).isPresent());
+        assertFalse(config.getOptionalValue("missing" + max, String.class).isPresent());
+        assertEquals(max + 3, source.lookups);
+
+        config.invalidateAll();
+        assertFalse(config.getOptionalValue("another.missing", String.class).isPresent());
+        assertFalse(config.getOptionalValue("another.missing", String.class).isPresent());
+        assertEquals(max + 4, source.lookups);
+    }
+
+    @Test
+    public void testValuesAreNotCachedByDefault() {
+        MutableConfigSource source = new MutableConfigSource();
+        source.properties.put("my.prop", "1");
+        SmallRyeConfig config = (SmallRyeConfig) new SmallRyeConfigBuilder()
+                .withSources(source)
+                .build();
+
+        assertEquals(Integer.valueOf(1), config.getValue("my.prop", Integer.class));
+        source.properties.put("my.prop", "2");
+        assertEquals(Integer.valueOf(2), config.getValue("my.prop", Integer.class));
+    }
+
+    @Test
+    public void testEmptyValueIsNotShared() {
+        MutableConfigSource high = new MutableConfigSource(200);
+        high.properties.put("my.prop", "");
+        MutableConfigSource low = new MutableConfigSource(100);
+        low.properties.put("my.prop", "low");
+        SmallRyeConfig config = (SmallRyeConfig) new SmallRyeConfigBuilder()
+                .withValueCache()
+                .withSources(high, low)
+                .build();
+
+        assertEquals("low", config.getOptionalValue("my.prop", String.class).get());
+        assertEquals("", config.getValue("my.prop", String.class));
+        assertEquals("low", config.getOptionalValue("my.prop", String.class).get());
+
+        high.properties.remove("my.prop");
+        low.properties.remove("my.prop");
+        config.invalidate("my.prop");
+        assertFalse(config.getOptionalValue("my.prop", String.class).isPresent());
+    }
+
+    @Test
+    public void testMissingPropertyIsCached() {
+        MutableConfigSource source = new MutableConfigSource();
+        SmallRyeConfig config = (SmallRyeConfig) new SmallRyeConfigBuilder()
+                .withValueCache()
+                .withSources(source)
+                .build();
+
+        assertFalse(config.getOptionalValue("my.prop", String.class).isPresent());
+        assertFalse(config.getOptionalValue("my.prop", Integer.class).isPresent());
+        assertEquals(1, source.lookups);
+
+        source.properties.put("my.prop", "1");
+        assertFalse(config.getOptionalValue("my.prop", String.class).isPresent());
+        try {
+            config.getValue("my.prop", String.class);
+            fail();
+        } catch (NoSuchElementException e) {
+        }
+        assertEquals(1, source.lookups);
+
+        config.invalidate("my.prop");
+        assertEquals(Integer.valueOf(1), config.getOptionalValue("my.prop", Integer.class).get());
+    }
+
+    static class MutableConfigSource implements ConfigSource {
+
+        final Map<String, String> properties = new HashMap<>();
+        private final int ordinal;
+        int lookups;
+
+        MutableConfigSource() {
+            this(DEFAULT_ORDINAL);
+        }
+
+        MutableConfigSource(int ordinal) {
+            this.ordinal = ordinal;
+        }
+
+        @Override
+        public Map<String, String> getProperties() {
+            return properties;
+        }
+
+        @Override
+        public int getOrdinal() {
+            return ordinal;
+        }
+
+        @Override
+        public String getValue(String propertyName) {
+            lookups++;
+            return properties.get(propertyName);
+        }
+
+        @Override
+        public String getName() {
+            return "MutableConfigSource[ordinal=" + ordinal + "]";
+        }
+    }
+}
@@ -25,6 +25,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
+import javax.enterprise.inject.Instance;
 import javax.inject.Inject;
 
 import org.jboss.arquillian.container.test.api.Deployment;
@@ -62,6 +63,9 @@ public class CollectionWithConfiguredValueTest extends Arquillian {
     @Inject
     private CollectionBean bean;
 
+    @Inject
+    private Instance<CollectionBean> beans;
+
     @Test
     public void testCollectionWithConfiguredValues() {
         String[] arrayPets = bean.getArrayPets();
@@ -79,4 +83,16 @@ public class CollectionWithConfiguredValueTest extends Arquillian {
         assertEquals(setPets.size(), 2);
         assertEquals(setPets, new HashSet<>(Arrays.asList("snake", "ox")));
     }
+
+    @Test
+    public void testInjectedCollectionsAreMutable() {
+        CollectionBean bean = beans.get();
+        bean.getListPets().add("cow");
+        bean.getSetPets().add("cow");
+
+        // the values of the config are not shared with the injected collections
+        CollectionBean otherBean = beans.get();
+        assertEquals(otherBean.getListPets(), new ArrayList<>(Arrays.asList("snake", "ox")));
+        assertEquals(otherBean.getSetPets(), new HashSet<>(Arrays.asList("snake", "ox")));
+    }
 }